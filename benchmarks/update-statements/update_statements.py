@@ -0,0 +1,122 @@
+# Statements SQL por atualização de funcionário: PUT, PATCH de um campo e PATCH sem mudança, para um funcionário
+# com N lançamentos de horas (o PUT antigo apagava os filhos). Cria o funcionário, aquece o cache L2 com um GET
+# antes de cada caso, mede e o exclui no fim.
+# SQL statements per employee update: PUT, single-field PATCH and no-op PATCH, for an employee with N work-hours
+# entries (the old PUT deleted the children). Creates the employee, warms the L2 cache with a GET before each case,
+# measures and deletes it at the end.
+#
+# A contagem vem do cabeçalho X-SQL-Statements. Builds sem ele (ex: o PUT anterior ao PATCH, git f36ef83^) são
+# medidos pelo log: rode o serviço com --logging.level.org.hibernate.SQL=DEBUG --logging.file.name=<arquivo> e
+# passe --app-log <arquivo>; conta as linhas org.hibernate.SQL gravadas durante cada requisição.
+# The count comes from the X-SQL-Statements header. Builds without it (e.g. the PUT before PATCH existed, git
+# f36ef83^) are measured from the log: run the service with --logging.level.org.hibernate.SQL=DEBUG
+# --logging.file.name=<file> and pass --app-log <file>; it counts the org.hibernate.SQL lines written during each
+# request.
+#
+# usage: JWT_SECRET_KEY=... python3 update_statements.py [--url http://localhost:8083] [--work-hours 30] [--app-log FILE]
+#        (or TOKEN=<bearer token> instead of JWT_SECRET_KEY / ou TOKEN=<token> no lugar de JWT_SECRET_KEY)
+import argparse
+import base64
+import hashlib
+import hmac
+import json
+import os
+import sys
+import time
+import urllib.error
+import urllib.request
+
+BASE_PATH = "/employee-and-costs/employees"
+
+
+def b64(data):
+    return base64.urlsafe_b64encode(data).rstrip(b"=").decode()
+
+
+def token():
+    if os.environ.get("TOKEN"):
+        return os.environ["TOKEN"]
+    secret = os.environ.get("JWT_SECRET_KEY")
+    if not secret:
+        sys.exit("Set TOKEN or JWT_SECRET_KEY.")
+    now = int(time.time())
+    header = b64(json.dumps({"alg": "HS256", "typ": "JWT"}).encode())
+    payload = b64(json.dumps({"sub": os.environ.get("JWT_SUBJECT", "admin"), "roles": ["ADMIN", "HR_MANAGER"],
+                              "iat": now, "exp": now + 3600}).encode())
+    signature = b64(hmac.new(secret.encode(), (header + "." + payload).encode(), hashlib.sha256).digest())
+    return header + "." + payload + "." + signature
+
+
+class Client:
+    def __init__(self, url, bearer, app_log):
+        self.url = url.rstrip("/") + BASE_PATH
+        self.bearer = bearer
+        self.app_log = app_log
+
+    def call(self, method, path, body=None, content_type="application/json"):
+        """Retorna (status, json, statements) / Returns (status, json, statements)."""
+        data = json.dumps(body).encode() if body is not None else None
+        request = urllib.request.Request(self.url + path, data=data, method=method)
+        request.add_header("Authorization", "Bearer " + self.bearer)
+        if data is not None:
+            request.add_header("Content-Type", content_type)
+        log_before = self._log_lines()
+        try:
+            with urllib.request.urlopen(request) as response:
+                status, headers, raw = response.status, response.headers, response.read()
+        except urllib.error.HTTPError as e:
+            status, headers, raw = e.code, e.headers, e.read()
+        statements = headers.get("X-SQL-Statements")
+        if statements is None and self.app_log:
+            time.sleep(0.5)  # Deixa o appender gravar / Let the appender flush
+            statements = self._log_lines() - log_before
+        payload = json.loads(raw) if raw and raw.strip().startswith((b"{", b"[")) else None
+        return status, payload, statements
+
+    def _log_lines(self):
+        if not self.app_log:
+            return 0
+        with open(self.app_log, "rb") as log:
+            return sum(1 for line in log if b"org.hibernate.SQL" in line)
+
+
+def main():
+    parser = argparse.ArgumentParser(description="SQL statements per employee update (PUT / PATCH).")
+    parser.add_argument("--url", default="http://localhost:8083")
+    parser.add_argument("--work-hours", type=int, default=30, help="work-hours entries on the employee")
+    parser.add_argument("--app-log", help="service log with org.hibernate.SQL at DEBUG, for builds without X-SQL-*")
+    args = parser.parse_args()
+    client = Client(args.url, token(), args.app_log)
+
+    status, employee, _ = client.call("POST", "", {
+        "firstName": "Bench", "lastName": "UpdateStatements", "hireDate": "2023-01-02",
+        "employmentType": "FULL_TIME", "hourlyRate": 40})
+    if status != 201:
+        sys.exit(f"Could not create the employee: HTTP {status} {employee}")
+    employee_id = employee["id"]
+    try:
+        for day in range(args.work_hours):
+            client.call("POST", f"/{employee_id}/work-hours", {
+                "employeeId": employee_id, "projectId": 1, "hoursWorked": 8,
+                "workDate": f"2024-{1 + day // 28:02d}-{1 + day % 28:02d}"})
+        _, current, _ = client.call("GET", f"/{employee_id}")
+
+        renamed = dict(current, lastName="UpdateStatementsPut")
+        cases = [
+            ("PUT, lastName changed", "PUT", renamed, "application/json"),
+            ("PATCH {\"lastName\"}", "PATCH", {"lastName": "UpdateStatementsPatch"}, "application/merge-patch+json"),
+            ("PATCH, unchanged value", "PATCH", {"lastName": "UpdateStatementsPatch"}, "application/merge-patch+json"),
+        ]
+        print(f"employee {employee_id} with {args.work_hours} work-hours entries")
+        for label, method, body, content_type in cases:
+            # Uma atualização tira a entrada do L2; o GET a recarrega, para medir com a linha em cache
+            # An update drops the entry from the L2; the GET reloads it, so each case runs with the row cached
+            client.call("GET", f"/{employee_id}")
+            status, _, statements = client.call(method, f"/{employee_id}", body, content_type)
+            print(f"  {label:<26} HTTP {status}  statements={statements if statements is not None else 'n/a'}")
+    finally:
+        client.call("DELETE", f"/{employee_id}")
+
+
+if __name__ == "__main__":
+    main()
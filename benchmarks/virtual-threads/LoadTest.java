@@ -0,0 +1,91 @@
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carga em laço fechado: N clientes concorrentes repetem GET na URL durante o tempo dado, cada um com um JWT
+ * de usuário próprio (assim cada cliente tem seu próprio principal). Imprime ok/erros, rps, p50 e p99.
+ * Closed-loop load: N concurrent clients repeat a GET on the URL for the given time, each with its own user
+ * JWT (so every client has its own principal). Prints ok/errors, rps, p50 and p99.
+ *
+ * java LoadTest.java <url> <jwt-secret> <concurrency> <seconds>
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 4) {
+            System.err.println("usage: java LoadTest.java <url> <jwt-secret> <concurrency> <seconds>");
+            System.exit(2);
+        }
+        URI url = URI.create(args[0]);
+        String secret = args[1];
+        int concurrency = Integer.parseInt(args[2]);
+        int seconds = Integer.parseInt(args[3]);
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        AtomicLong ok = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        long end = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                HttpRequest request = HttpRequest.newBuilder(url)
+                        .header("Authorization", "Bearer " + jwt(secret, "loaduser-" + i))
+                        .timeout(Duration.ofSeconds(30))
+                        .build();
+                clients.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            (status == 200 ? ok : errors).incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        List<Long> sorted = latencies.stream().sorted().toList();
+        System.out.printf("ok=%d err=%d rps=%.0f p50=%dms p99=%dms%n",
+                ok.get(), errors.get(), ok.get() / (double) seconds,
+                percentile(sorted, 0.50) / 1_000_000, percentile(sorted, 0.99) / 1_000_000);
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        return sorted.isEmpty() ? 0 : sorted.get((int) Math.min(sorted.size() - 1, sorted.size() * p));
+    }
+
+    /**
+     * JWT HS256 mínimo, aceito pelo JwtUtil do serviço / Minimal HS256 JWT, accepted by the service's JwtUtil.
+     */
+    private static String jwt(String secret, String subject) throws Exception {
+        Base64.Encoder base64 = Base64.getUrlEncoder().withoutPadding();
+        long now = System.currentTimeMillis() / 1000;
+        String header = base64.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = base64.encodeToString(("{\"sub\":\"" + subject + "\",\"iat\":" + now + ",\"exp\":" + (now + 3600) + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String signature = base64.encodeToString(mac.doFinal((header + "." + payload).getBytes(StandardCharsets.UTF_8)));
+        return header + "." + payload + "." + signature;
+    }
+}
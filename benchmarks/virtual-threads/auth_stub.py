@@ -0,0 +1,40 @@
+# Stub do auth-service: responde qualquer GET com um usuário ADMIN após DELAY segundos (padrão 0.2).
+# Auth-service stub: answers any GET with an ADMIN user after DELAY seconds (default 0.2).
+# usage: DELAY=5 PORT=9099 python3 auth_stub.py
+import http.server
+import json
+import os
+import time
+
+DELAY = float(os.environ.get("DELAY", "0.2"))
+PORT = int(os.environ.get("PORT", "9099"))
+
+
+class Handler(http.server.BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"  # keep-alive, como o pool hc5 do Feign / keep-alive, like the Feign hc5 pool
+
+    def do_GET(self):
+        time.sleep(DELAY)
+        username = self.path.rsplit("/", 1)[-1]
+        body = json.dumps({
+            "id": "f0e9d8c7-b6a5-4321-fedc-ba9876543210",
+            "username": username,
+            "roles": ["ADMIN", "MANAGER", "HR_MANAGER"],
+        }).encode()
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(body)))
+        self.end_headers()
+        self.wfile.write(body)
+
+    def log_message(self, *args):
+        pass
+
+
+class Server(http.server.ThreadingHTTPServer):
+    request_queue_size = 2048
+    daemon_threads = True
+
+
+if __name__ == "__main__":
+    Server(("", PORT), Handler).serve_forever()
@@ -0,0 +1,73 @@
+#!/bin/bash
+# Virtual threads x platform threads: GET /employees/{id} sob carga, com o cache de principals desligado para
+# que toda requisição chame o auth-service (stub com atraso fixo). Imprime rps/p50/p99 e as threads da JVM
+# no meio da execução (Linux, /proc).
+# Virtual vs platform threads: GET /employees/{id} under load, with the principal cache disabled so every
+# request calls the auth-service (stub with a fixed delay). Prints rps/p50/p99 and the JVM thread count
+# mid-run (Linux, /proc).
+#
+# usage: run.sh <virtual:true|false> <concurrency> <seconds> <employee-id>
+#
+# Ambiente / Environment:
+#   DATASOURCE_URL, DATASOURCE_USERNAME_PROD, DATASOURCE_PASSWORD_PROD  banco da aplicação / application database
+#   JWT_SECRET_KEY   segredo HS256 do serviço / the service's HS256 secret
+#   STUB_DELAY       atraso do auth-service em segundos (padrão 0.2) / auth-service delay in seconds (default 0.2)
+#   STUB_PORT        porta do stub (padrão 9099) / stub port (default 9099)
+#   CPUS             lista do taskset para o serviço, ex. "0" para 1 vCPU / taskset CPU list for the service, e.g. "0" for 1 vCPU
+#   APP_ARGS         argumentos extras do Spring / extra Spring arguments
+#
+# O pool/timeout do cliente Feign, o bulkhead e o limite de chamada lenta do circuit breaker do auth-service são
+# afrouxados (sobrescrevíveis pelas variáveis de ambiente) para que todas as requisições esperem o stub, como
+# na medição original, anterior a eles.
+# The Feign client pool/timeout, the auth-service bulkhead and the circuit-breaker slow-call threshold are
+# relaxed (overridable through the environment variables) so that every request waits on the stub, as in the
+# original measurement, which predates them.
+#
+# Exemplo / Example (números do commit de virtual threads / numbers from the virtual threads commit):
+#   STUB_DELAY=5 CPUS=0 ./run.sh false 400 40 <employee-id>
+#   STUB_DELAY=5 CPUS=0 ./run.sh true 400 40 <employee-id>
+set -euo pipefail
+
+if [ $# -ne 4 ]; then
+  echo "usage: $0 <virtual:true|false> <concurrency> <seconds> <employee-id>" >&2; exit 2
+fi
+VIRTUAL=$1; CONCURRENCY=$2; SECONDS_RUN=$3; EMPLOYEE_ID=$4
+: "${JWT_SECRET_KEY:?JWT_SECRET_KEY is required}"
+: "${DATASOURCE_URL:?DATASOURCE_URL is required}"
+STUB_PORT=${STUB_PORT:-9099}
+HERE=$(cd "$(dirname "$0")" && pwd)
+ROOT=$(cd "$HERE/../.." && pwd)
+JAR=$(ls "$ROOT"/target/employee-and-costs-service-*.jar | grep -v original | head -1)
+LOG=$(mktemp)
+URL="http://localhost:8083/employee-and-costs/employees/$EMPLOYEE_ID"
+
+cleanup() { kill "${APP_PID:-}" "${STUB_PID:-}" 2>/dev/null || true; }
+trap cleanup EXIT
+
+DELAY=${STUB_DELAY:-0.2} PORT=$STUB_PORT python3 "$HERE/auth_stub.py" &
+STUB_PID=$!
+
+export AUTH_SERVICE_URL="http://localhost:$STUB_PORT"
+export AUTH_CLIENT_MAX_CONNECTIONS=${AUTH_CLIENT_MAX_CONNECTIONS:-$CONCURRENCY}
+export AUTH_CLIENT_POOL_WAIT_MS=${AUTH_CLIENT_POOL_WAIT_MS:-60000}
+export AUTH_CLIENT_READ_TIMEOUT_MS=${AUTH_CLIENT_READ_TIMEOUT_MS:-60000}
+export AUTH_BULKHEAD_MAX_CALLS=${AUTH_BULKHEAD_MAX_CALLS:-$CONCURRENCY}
+${CPUS:+taskset -c "$CPUS"} java -jar "$JAR" \
+  --spring.threads.virtual.enabled="$VIRTUAL" \
+  --security.principal-cache.max-size=0 \
+  --auth.service.circuit-breaker.slow-call-duration-threshold=PT60S \
+  ${APP_ARGS:-} > "$LOG" 2>&1 &
+APP_PID=$!
+for _ in $(seq 1 120); do
+  grep -q "Started EmployeeAndCostsServiceApplication" "$LOG" && break
+  kill -0 "$APP_PID" 2>/dev/null || { cat "$LOG"; exit 1; }
+  sleep 1
+done
+
+# Aquecimento (JIT, pools de conexão) / Warm-up (JIT, connection pools)
+java "$HERE/LoadTest.java" "$URL" "$JWT_SECRET_KEY" 50 10 > /dev/null
+
+( sleep $(( SECONDS_RUN / 2 )); echo "threads(mid-run)=$(awk '/^Threads/ {print $2}' /proc/$APP_PID/status)" ) &
+SAMPLER_PID=$!
+echo "virtual=$VIRTUAL concurrency=$CONCURRENCY stub-delay=${STUB_DELAY:-0.2}s: $(java "$HERE/LoadTest.java" "$URL" "$JWT_SECRET_KEY" "$CONCURRENCY" "$SECONDS_RUN")"
+wait "$SAMPLER_PID"
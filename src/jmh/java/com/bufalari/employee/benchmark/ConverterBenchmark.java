@@ -0,0 +1,92 @@
+package com.bufalari.employee.benchmark;
+
+import com.bufalari.employee.convert.AddressConverter;
+import com.bufalari.employee.convert.AllocationHistoryConverter;
+import com.bufalari.employee.convert.EmployeeConverter;
+import com.bufalari.employee.convert.WorkHoursConverter;
+import com.bufalari.employee.entity.AddressEntity;
+import com.bufalari.employee.entity.AllocationHistoryEntity;
+import com.bufalari.employee.entity.EmployeeEntity;
+import com.bufalari.employee.entity.WorkHoursEntity;
+import com.bufalari.employee.enums.EmploymentType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-trips entidade -> DTO -> entidade dos conversores usados em todas as respostas da API.
+ * Entity -> DTO -> entity round-trips of the converters used by every API response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConverterBenchmark {
+
+    private EmployeeConverter employeeConverter;
+    private WorkHoursConverter workHoursConverter;
+    private AllocationHistoryConverter allocationHistoryConverter;
+
+    private EmployeeEntity employee;
+    private WorkHoursEntity workHours;
+    private AllocationHistoryEntity allocation;
+
+    @Setup
+    public void setUp() {
+        employeeConverter = new EmployeeConverter(new AddressConverter());
+        workHoursConverter = new WorkHoursConverter();
+        allocationHistoryConverter = new AllocationHistoryConverter();
+
+        employee = EmployeeEntity.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .firstName("Maria")
+                .lastName("Silva")
+                .socialInsuranceNumber("123-456-789")
+                .birthDate(LocalDate.of(1985, 4, 12))
+                .hireDate(LocalDate.of(2020, 1, 6))
+                .address(new AddressEntity("Rue Sainte-Catherine", "1200", "Montreal", "QC", "H3B 1K9", "Canada"))
+                .salary(new BigDecimal("85000.00"))
+                .payFrequency("BI_WEEKLY")
+                .hourlyRate(new BigDecimal("42.50"))
+                .benefitsCostMonthly(new BigDecimal("650.00"))
+                .employmentType(EmploymentType.FULL_TIME)
+                .build();
+
+        workHours = WorkHoursEntity.builder()
+                .id(UUID.randomUUID())
+                .employee(employee)
+                .projectId(42L)
+                .workDate(LocalDate.of(2024, 5, 14))
+                .hoursWorked(new BigDecimal("7.50"))
+                .calculatedCost(new BigDecimal("318.75"))
+                .description("Foundation formwork")
+                .build();
+
+        allocation = AllocationHistoryEntity.builder()
+                .id(UUID.randomUUID())
+                .employee(employee)
+                .projectId(42L)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 12, 31))
+                .description("Site supervisor")
+                .build();
+    }
+
+    @Benchmark
+    public EmployeeEntity employeeRoundTrip() {
+        return employeeConverter.dtoToEntity(employeeConverter.entityToDTO(employee));
+    }
+
+    @Benchmark
+    public WorkHoursEntity workHoursRoundTrip() {
+        return workHoursConverter.dtoToEntity(workHoursConverter.entityToDTO(workHours));
+    }
+
+    @Benchmark
+    public AllocationHistoryEntity allocationHistoryRoundTrip() {
+        return allocationHistoryConverter.dtoToEntity(allocationHistoryConverter.entityToDTO(allocation));
+    }
+}
@@ -0,0 +1,57 @@
+package com.bufalari.employee.benchmark;
+
+import com.bufalari.employee.entity.EmployeeEntity;
+import com.bufalari.employee.entity.WorkHoursEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validação e cálculo de custo (BigDecimal) executados em cada lançamento de horas, incluindo o bulk.
+ * Validation and BigDecimal cost calculation run for every work-hours entry, including bulk imports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CostCalculationBenchmark {
+
+    private WorkHoursEntity newEntry;
+    private WorkHoursEntity persistedEntry;
+
+    @Setup
+    public void setUp() {
+        EmployeeEntity employee = EmployeeEntity.builder()
+                .id(UUID.randomUUID())
+                .hourlyRate(new BigDecimal("42.50"))
+                .build();
+        // Sem ID, como no registro de horas novas / No ID, as when registering new hours
+        newEntry = WorkHoursEntity.builder()
+                .employee(employee)
+                .costCenterId(7L)
+                .workDate(LocalDate.of(2024, 5, 14))
+                .hoursWorked(new BigDecimal("7.75"))
+                .build();
+        persistedEntry = WorkHoursEntity.builder()
+                .id(UUID.randomUUID())
+                .employee(employee)
+                .projectId(42L)
+                .workDate(LocalDate.of(2024, 5, 14))
+                .hoursWorked(new BigDecimal("7.75"))
+                .build();
+    }
+
+    @Benchmark
+    public BigDecimal validateAndCalculateCostNewEntry() {
+        newEntry.validateAndCalculateCost();
+        return newEntry.getCalculatedCost();
+    }
+
+    @Benchmark
+    public BigDecimal validateAndCalculateCostPersistedEntry() {
+        persistedEntry.validateAndCalculateCost();
+        return persistedEntry.getCalculatedCost();
+    }
+}
@@ -0,0 +1,62 @@
+package com.bufalari.employee.benchmark;
+
+import com.bufalari.employee.config.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de {@link JwtUtil#validateToken(String, UserDetails)} com e sem o cache de claims verificadas.
+ * Cost of {@link JwtUtil#validateToken(String, UserDetails)} with and without the verified-claims cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-256-bits-for-hs256";
+
+    /**
+     * Tamanho máximo do cache de claims; 0 força a verificação HMAC completa a cada chamada.
+     * Maximum claims cache size; 0 forces a full HMAC verification on every call.
+     */
+    @Param({"10000", "0"})
+    public long claimsCacheMaxSize;
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private UserDetails userDetails;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "configuredSecretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", claimsCacheMaxSize);
+        jwtUtil.init();
+
+        Instant now = Instant.now();
+        token = Jwts.builder()
+                .setSubject("maria.silva")
+                .claim("roles", List.of("ROLE_MANAGER"))
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(Duration.ofHours(1))))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        userDetails = User.withUsername("maria.silva").password("").roles("MANAGER").build();
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+}
@@ -0,0 +1,119 @@
+package com.bufalari.employee.benchmark;
+
+import com.bufalari.employee.idgen.TimeOrderedUuidGenerator;
+import com.bufalari.employee.idgen.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Vazão de inserts em lote (linhas/s) e tamanho do índice da PK de uma tabela com o formato de work_hours,
+ * com UUIDv4 aleatório e com UUIDv7 ordenado por tempo ({@link TimeOrderedUuidGenerator}).
+ * Batched insert throughput (rows/s) and primary-key index size of a work_hours-shaped table, with random
+ * UUIDv4 and with time-ordered UUIDv7 ({@link TimeOrderedUuidGenerator}).
+ *
+ * Precisa de um PostgreSQL: usa as mesmas variáveis de ambiente da aplicação (DATASOURCE_URL,
+ * DATASOURCE_USERNAME_PROD, DATASOURCE_PASSWORD_PROD), herdadas pelos forks do JMH. Cria e remove as
+ * tabelas bench_uuid_*; o tamanho do índice é impresso ao fim de cada trial.
+ * Needs a PostgreSQL: it uses the application's environment variables (DATASOURCE_URL,
+ * DATASOURCE_USERNAME_PROD, DATASOURCE_PASSWORD_PROD), inherited by the JMH forks. It creates and drops the
+ * bench_uuid_* tables; the index size is printed at the end of each trial.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="UuidInsertBenchmark -f 1 -wi 1 -w 10s -i 3 -r 20s"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(UuidInsertBenchmark.BATCH_SIZE)
+public class UuidInsertBenchmark {
+
+    // Lotes grandes deixam o custo do índice dominar o de ida e volta / Large batches let index cost dominate round trips
+    static final int BATCH_SIZE = 1000;
+
+    @Param({TimeOrderedUuidGenerator.RANDOM, TimeOrderedUuidGenerator.TIME_ORDERED})
+    public String strategy;
+
+    private Supplier<UUID> ids;
+    private String table;
+    private Connection connection;
+    private PreparedStatement insert;
+    private final UUID[] employees = new UUID[500];
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        ids = TimeOrderedUuidGenerator.TIME_ORDERED.equals(strategy) ? UuidV7::next : UUID::randomUUID;
+        table = "bench_uuid_" + strategy.replace('-', '_');
+        for (int i = 0; i < employees.length; i++) {
+            employees[i] = UUID.randomUUID();
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty("user", Objects.requireNonNullElse(System.getenv("DATASOURCE_USERNAME_PROD"), "postgres"));
+        properties.setProperty("password", Objects.requireNonNullElse(System.getenv("DATASOURCE_PASSWORD_PROD"), ""));
+        // Como no pool da aplicação / As in the application's pool
+        properties.setProperty("reWriteBatchedInserts", "true");
+        connection = DriverManager.getConnection(
+                Objects.requireNonNullElse(System.getenv("DATASOURCE_URL"), "jdbc:postgresql://localhost:5432/postgres"),
+                properties);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (" +
+                    "id uuid PRIMARY KEY, employee_id uuid NOT NULL, project_id bigint, work_date date NOT NULL, " +
+                    "hours_worked numeric(5,2) NOT NULL, calculated_cost numeric(10,2), description varchar(500))");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + table +
+                " (id, employee_id, project_id, work_date, hours_worked, calculated_cost, description) VALUES (?, ?, ?, ?, ?, ?, ?)");
+    }
+
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, ids.get());
+            insert.setObject(2, employees[random.nextInt(employees.length)]);
+            insert.setLong(3, random.nextLong(1, 200));
+            insert.setDate(4, Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(random.nextInt(366))));
+            insert.setBigDecimal(5, new BigDecimal("8.00"));
+            insert.setBigDecimal(6, new BigDecimal("340.00"));
+            insert.setString(7, null);
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            // Inclui as linhas do warmup; bytes/linha compara estratégias com totais diferentes
+            // Includes the warmup rows; bytes/row compares strategies with different totals
+            try (ResultSet result = statement.executeQuery("SELECT count(*), pg_relation_size('" + table + "_pkey') FROM " + table)) {
+                result.next();
+                long rows = result.getLong(1);
+                long indexBytes = result.getLong(2);
+                System.out.printf("%n[%s] rows=%d, primary-key index=%.1f MB, %.1f bytes/row%n",
+                        strategy, rows, indexBytes / (1024.0 * 1024.0), rows == 0 ? 0.0 : (double) indexBytes / rows);
+            }
+            statement.execute("DROP TABLE " + table);
+            connection.commit();
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.bufalari.employee.client;
+
+import com.bufalari.employee.config.AuthServiceResilienceConfig;
+import com.bufalari.employee.dto.UserDetailsDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Fachada do {@link AuthServiceClient} que agrupa consultas concorrentes ao mesmo username (single-flight):
+ * a primeira thread faz a chamada HTTP e as demais que chegam enquanto ela está em andamento recebem o mesmo
+ * resultado (ou a mesma exceção). O agrupamento não é um cache: ao terminar, a próxima consulta vai de novo ao auth-service.
+ * Facade over {@link AuthServiceClient} that coalesces concurrent lookups of the same username (single-flight):
+ * the first thread makes the HTTP call and the ones arriving while it is in flight get the same result (or the
+ * same exception). Coalescing is not a cache: once done, the next lookup goes to the auth-service again.
+ *
+ * As threads em espera ficam em {@link CompletableFuture#join()}, sem lock synchronized, então não prendem
+ * (pin) a carrier thread quando as requisições rodam em virtual threads.
+ * Waiting threads block in {@link CompletableFuture#join()}, without a synchronized lock, so they do not pin
+ * the carrier thread when requests run on virtual threads.
+ *
+ * A chamada passa por um bulkhead (limita as threads presas no auth-service, sem fila) e por um circuit breaker
+ * (ver AuthServiceResilienceConfig). Com o circuito aberto, o bulkhead cheio ou o serviço falhando, devolve o
+ * último resultado bom do usuário, se ele tiver no máximo {@code auth.service.stale-principals.ttl}.
+ * The call goes through a bulkhead (caps the threads stuck on the auth-service, no queue) and a circuit breaker
+ * (see AuthServiceResilienceConfig). With the circuit open, the bulkhead full or the service failing, it returns
+ * the user's last good result, if it is at most {@code auth.service.stale-principals.ttl} old.
+ *
+ * Esse resultado volta marcado como {@link UserDetailsDTO#isStale() stale}, para que caches acima (PrincipalCache)
+ * não o guardem e estendam a janela além do TTL.
+ * That result comes back flagged {@link UserDetailsDTO#isStale() stale}, so caches above it (PrincipalCache) do
+ * not store it and stretch the window past the TTL.
+ */
+@Component
+public class AuthServiceGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthServiceGateway.class);
+
+    private final AuthServiceClient authServiceClient;
+    private final ConcurrentMap<String, CompletableFuture<UserDetailsDTO>> inFlight = new ConcurrentHashMap<>();
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Cache<String, UserDetailsDTO> lastKnownGood;
+    private final Counter calls;
+    private final Counter coalesced;
+    private final Counter staleFallbacks;
+    private final Counter failedFallbacks;
+
+    public AuthServiceGateway(AuthServiceClient authServiceClient,
+                              CircuitBreaker authServiceCircuitBreaker,
+                              Bulkhead authServiceBulkhead,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.service.stale-principals.max-size:10000}") long staleMaxSize,
+                              @Value("${auth.service.stale-principals.ttl:PT15M}") Duration staleTtl) {
+        this.authServiceClient = authServiceClient;
+        this.circuitBreaker = authServiceCircuitBreaker;
+        this.bulkhead = authServiceBulkhead;
+        this.lastKnownGood = Caffeine.newBuilder()
+                .maximumSize(staleMaxSize)
+                .expireAfterWrite(staleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, lastKnownGood, "auth-stale-principals");
+        this.calls = Counter.builder("auth.service.lookups")
+                .description("Username lookups against the auth-service")
+                .tag("coalesced", "false")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("auth.service.lookups")
+                .description("Username lookups against the auth-service")
+                .tag("coalesced", "true")
+                .register(meterRegistry);
+        this.staleFallbacks = Counter.builder("auth.service.fallbacks")
+                .description("Auth-service lookups that failed or were rejected, by fallback outcome")
+                .tag("outcome", "stale")
+                .register(meterRegistry);
+        this.failedFallbacks = Counter.builder("auth.service.fallbacks")
+                .description("Auth-service lookups that failed or were rejected, by fallback outcome")
+                .tag("outcome", "unavailable")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Busca os detalhes do usuário, compartilhando a chamada já em andamento para o mesmo username.
+     * Retrieves the user details, sharing the call already in flight for the same username.
+     * @param username The username. / O nome de usuário.
+     * @return The user details returned by the auth-service. / Os detalhes devolvidos pelo auth-service.
+     * @throws FeignException The same exception the in-flight call raised, when there is no usable stale result.
+     *         / A mesma exceção da chamada em andamento, quando não há resultado antigo utilizável.
+     * @throws CallNotPermittedException Circuit open and no stale result. / Circuito aberto e sem resultado antigo.
+     * @throws BulkheadFullException Too many concurrent calls and no stale result. / Chamadas demais e sem resultado antigo.
+     */
+    public UserDetailsDTO getUserByUsername(String username) {
+        CompletableFuture<UserDetailsDTO> call = new CompletableFuture<>();
+        CompletableFuture<UserDetailsDTO> existing = inFlight.putIfAbsent(username, call);
+        if (existing != null) {
+            coalesced.increment();
+            log.debug("Joining in-flight auth-service lookup for username: {}", username);
+            return await(existing);
+        }
+        calls.increment();
+        try {
+            UserDetailsDTO userDetails = fetch(username);
+            call.complete(userDetails);
+            return userDetails;
+        } catch (Throwable e) {
+            // Também Errors: quem espera em join() (não interrompível) ficaria bloqueado para sempre
+            // Errors too: waiters in join() (not interruptible) would otherwise block forever
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(username, call);
+        }
+    }
+
+    /**
+     * Remove o último resultado bom do usuário (ex: permissões revogadas).
+     * Removes the user's last good result (e.g. revoked permissions).
+     */
+    public void invalidate(String username) {
+        lastKnownGood.invalidate(username);
+    }
+
+    /**
+     * Remove todos os últimos resultados bons.
+     * Removes every last good result.
+     */
+    public void invalidateAll() {
+        lastKnownGood.invalidateAll();
+    }
+
+    private UserDetailsDTO fetch(String username) {
+        try {
+            UserDetailsDTO userDetails = circuitBreaker.executeSupplier(
+                    Bulkhead.decorateSupplier(bulkhead, () -> authServiceClient.getUserByUsername(username)));
+            if (userDetails != null) {
+                lastKnownGood.put(username, userDetails);
+            }
+            return userDetails;
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            return staleOrThrow(username, e);
+        } catch (FeignException e) {
+            if (!AuthServiceResilienceConfig.isServiceFailure(e)) {
+                lastKnownGood.invalidate(username); // Resposta definitiva (ex: 404) / Definitive answer (e.g. 404)
+                throw e;
+            }
+            return staleOrThrow(username, e);
+        }
+    }
+
+    private UserDetailsDTO staleOrThrow(String username, RuntimeException failure) {
+        UserDetailsDTO stale = lastKnownGood.getIfPresent(username);
+        if (stale == null) {
+            failedFallbacks.increment();
+            throw failure;
+        }
+        staleFallbacks.increment();
+        log.warn("Auth-service unavailable ({}); serving last known principal for username: {}",
+                failure.getClass().getSimpleName(), username);
+        // Cópia marcada: a entrada em lastKnownGood continua intacta / Flagged copy: the lastKnownGood entry stays untouched
+        return new UserDetailsDTO(stale.getId(), stale.getUsername(), stale.getRoles(), true);
+    }
+
+    private static UserDetailsDTO await(CompletableFuture<UserDetailsDTO> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // Repassa a exceção original (ex: FeignException.NotFound) / Rethrows the original exception (e.g. FeignException.NotFound)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
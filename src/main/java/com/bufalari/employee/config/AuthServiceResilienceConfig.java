@@ -0,0 +1,108 @@
+package com.bufalari.employee.config;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker e bulkhead das chamadas ao auth-service (usados pelo AuthServiceGateway).
+ * Circuit breaker and bulkhead for auth-service calls (used by AuthServiceGateway).
+ *
+ * Só erros de rede/timeout e respostas 5xx contam como falha; um 4xx (ex: usuário inexistente) é resposta
+ * válida do serviço e não abre o circuito.
+ * Only network/timeout errors and 5xx responses count as failures; a 4xx (e.g. unknown user) is a valid
+ * answer from the service and does not open the circuit.
+ */
+@Configuration
+public class AuthServiceResilienceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthServiceResilienceConfig.class);
+
+    public static final String AUTH_SERVICE = "auth-service";
+
+    @Bean
+    public CircuitBreakerRegistry authServiceCircuitBreakerRegistry(
+            @Value("${auth.service.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${auth.service.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${auth.service.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${auth.service.circuit-breaker.slow-call-duration-threshold:PT1S}") Duration slowCallDurationThreshold,
+            @Value("${auth.service.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${auth.service.circuit-breaker.wait-duration-in-open-state:PT10S}") Duration waitDurationInOpenState,
+            @Value("${auth.service.circuit-breaker.permitted-calls-in-half-open-state:3}") int permittedCallsInHalfOpenState) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(false) // Só testa quando chega uma requisição
+                .recordException(AuthServiceResilienceConfig::isServiceFailure)
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+        return CircuitBreakerRegistry.of(config);
+    }
+
+    @Bean
+    public CircuitBreaker authServiceCircuitBreaker(CircuitBreakerRegistry authServiceCircuitBreakerRegistry) {
+        CircuitBreaker circuitBreaker = authServiceCircuitBreakerRegistry.circuitBreaker(AUTH_SERVICE);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Auth-service circuit breaker transition: {}", event.getStateTransition()));
+        return circuitBreaker;
+    }
+
+    @Bean
+    public BulkheadRegistry authServiceBulkheadRegistry(
+            @Value("${auth.service.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${auth.service.bulkhead.max-wait-duration:PT0S}") Duration maxWaitDuration) {
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWaitDuration)
+                .build());
+    }
+
+    @Bean
+    public Bulkhead authServiceBulkhead(BulkheadRegistry authServiceBulkheadRegistry) {
+        return authServiceBulkheadRegistry.bulkhead(AUTH_SERVICE);
+    }
+
+    /**
+     * Publica estado, taxas de falha/lentidão e chamadas do circuit breaker e do bulkhead (name="auth-service").
+     * Publishes circuit breaker and bulkhead state, failure/slow rates and calls (name="auth-service").
+     */
+    @Bean
+    public MeterBinder authServiceResilienceMetrics(CircuitBreakerRegistry authServiceCircuitBreakerRegistry,
+                                                    BulkheadRegistry authServiceBulkheadRegistry) {
+        return registry -> {
+            TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(authServiceCircuitBreakerRegistry).bindTo(registry);
+            TaggedBulkheadMetrics.ofBulkheadRegistry(authServiceBulkheadRegistry).bindTo(registry);
+        };
+    }
+
+    /**
+     * Erro de rede/timeout (status -1) ou 5xx. / Network/timeout error (status -1) or 5xx.
+     */
+    public static boolean isServiceFailure(Throwable throwable) {
+        if (throwable instanceof FeignException feignException) {
+            return feignException.status() < 0 || feignException.status() >= 500;
+        }
+        return !(throwable instanceof BulkheadFullException);
+    }
+}
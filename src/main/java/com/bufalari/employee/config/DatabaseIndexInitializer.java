@@ -0,0 +1,93 @@
+package com.bufalari.employee.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Cria, de forma idempotente, índices e constraints que o ddl-auto do Hibernate não sabe gerar
+ * (extensões, GiST/GIN sobre expressões, constraints de exclusão, FKs de colunas sem associação).
+ * Idempotently creates the indexes and constraints Hibernate ddl-auto cannot generate
+ * (extensions, GiST/GIN over expressions, exclusion constraints, FKs of columns without an association).
+ *
+ * Cada comando roda isoladamente; uma falha (ex: sem permissão para CREATE EXTENSION ou dados
+ * legados conflitantes) é registrada como aviso e não impede a inicialização.
+ * Each statement runs on its own; a failure (e.g. no privilege for CREATE EXTENSION or conflicting
+ * legacy data) is logged as a warning and does not prevent startup.
+ */
+@Component
+public class DatabaseIndexInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseIndexInitializer.class);
+
+    private static final List<String> STATEMENTS = List.of(
+            // Igualdade de uuid/bigint em índices GiST / uuid/bigint equality inside GiST indexes
+            "CREATE EXTENSION IF NOT EXISTS btree_gist",
+            // Alocações do mesmo funcionário no mesmo projeto não podem se sobrepor
+            // Allocations of the same employee on the same project must not overlap
+            "DO $$ BEGIN " +
+            "IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'ex_alloc_employee_project_period') THEN " +
+            "ALTER TABLE allocation_history ADD CONSTRAINT ex_alloc_employee_project_period " +
+            "EXCLUDE USING gist (employee_id WITH =, project_id WITH =, daterange(start_date, end_date, '[]') WITH &&); " +
+            "END IF; END $$",
+            // "Quem está no projeto X na data D" / "Who is on project X on date D"
+            "CREATE INDEX IF NOT EXISTS idx_alloc_project_period ON allocation_history " +
+            "USING gist (project_id, daterange(start_date, end_date, '[]'))",
+            // Busca typeahead por prefixo: intervalos em ordem de bytes, sem depender da collation do banco
+            // Typeahead prefix search: byte-ordered ranges, independent of the database collation
+            "CREATE INDEX IF NOT EXISTS idx_employee_search_last ON employees " +
+            "((lower(last_name) COLLATE \"C\"), (lower(first_name) COLLATE \"C\"), id)",
+            "CREATE INDEX IF NOT EXISTS idx_employee_search_first ON employees " +
+            "((lower(first_name) COLLATE \"C\"), (lower(last_name) COLLATE \"C\"), id)",
+            "CREATE INDEX IF NOT EXISTS idx_employee_search_city ON employees " +
+            "((lower(address_city) COLLATE \"C\"), (lower(last_name) COLLATE \"C\"), (lower(first_name) COLLATE \"C\"), id)",
+            // Similaridade por trigramas (erros de digitação) / Trigram similarity (typos)
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_employee_name_trgm ON employees " +
+            "USING gin ((lower(first_name || ' ' || last_name)) gin_trgm_ops)",
+            // employees.department_id é uma coluna simples na entidade; a FK impede excluir um departamento em uso
+            // employees.department_id is a plain column on the entity; the FK prevents deleting a department in use
+            "DO $$ BEGIN " +
+            "IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_employee_department') THEN " +
+            "ALTER TABLE employees ADD CONSTRAINT fk_employee_department " +
+            "FOREIGN KEY (department_id) REFERENCES departments (id); " +
+            "END IF; END $$"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public DatabaseIndexInitializer(JdbcTemplate jdbcTemplate,
+                                    @Value("${employee.db.extended-indexes.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("Extended database indexes disabled; skipping.");
+            return;
+        }
+        int applied = 0;
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+                applied++;
+            } catch (RuntimeException e) {
+                log.warn("Could not apply database statement [{}]: {}", abbreviate(statement), e.getMessage());
+            }
+        }
+        log.info("Extended database indexes checked ({}/{} statements applied).", applied, STATEMENTS.size());
+    }
+
+    private static String abbreviate(String statement) {
+        return statement.length() > 120 ? statement.substring(0, 120) + "..." : statement;
+    }
+}
@@ -1,9 +1,16 @@
 // Path: employee-and-costs-service/src/main/java/com/bufalari/employee/config/JwtUtil.java
 package com.bufalari.employee.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.*; // Import SignatureException etc.
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException; // Specific import
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,8 +20,12 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey; // Correct import for SecretKey
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -23,7 +34,7 @@ import java.util.function.Function;
  * Utilitário para manipulação de tokens JWT, usando uma chave secreta configurada.
  */
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     private static final Logger log = LoggerFactory.getLogger(JwtUtil.class);
 
@@ -34,6 +45,15 @@ public class JwtUtil {
 
     private SecretKey secretKey; // Use SecretKey type
 
+    // Parser imutável e thread-safe, construído uma única vez / Immutable, thread-safe parser built once
+    private JwtParser jwtParser;
+
+    // Claims já verificadas, indexadas pelo SHA-256 do token / Verified claims keyed by the token SHA-256
+    private Cache<String, Claims> verifiedClaimsCache;
+
+    @Value("${security.jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
     /**
      * Initializes the SecretKey after properties injection.
      * Inicializa a SecretKey após a injeção das propriedades.
@@ -48,11 +68,75 @@ public class JwtUtil {
             // Assume the secret key is a plain string suitable for HS256
             // Assume que a chave secreta é uma string plana adequada para HS256
             this.secretKey = Keys.hmacShaKeyFor(configuredSecretKey.getBytes(StandardCharsets.UTF_8));
+            this.jwtParser = Jwts.parserBuilder().setSigningKey(this.secretKey).build();
             log.info("JWT Secret Key initialized successfully.");
         } catch (Exception e) {
             log.error("Error initializing JWT Secret Key from configured value.", e);
             throw new RuntimeException("Failed to initialize JWT Secret Key", e);
         }
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return nanosUntilExpiration(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return nanosUntilExpiration(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Valida o token (assinatura e expiração) uma única vez e retorna as claims verificadas.
+     * Tokens repetidos são servidos do cache até a sua expiração, sem refazer o HMAC.
+     * Validates the token (signature and expiry) once and returns the verified claims.
+     * Repeated tokens are served from the cache until they expire, skipping the HMAC check.
+     * @param token The JWT token. / O token JWT.
+     * @return The verified claims. / As claims verificadas.
+     * @throws JwtException if the token is invalid or expired. / Se o token for inválido ou expirado.
+     */
+    public Claims validateAndGetClaims(String token) throws JwtException {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT token must not be empty.");
+        }
+        String digest = digest(token);
+        Claims cached = verifiedClaimsCache.getIfPresent(digest);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return cached;
+            }
+            verifiedClaimsCache.invalidate(digest);
+        }
+        Claims claims = extractAllClaims(token); // Lança JwtException se inválido / Throws JwtException if invalid
+        verifiedClaimsCache.put(digest, claims);
+        return claims;
+    }
+
+    /**
+     * Publica as métricas do cache de claims verificadas (cache="jwt-claims").
+     * Publishes the verified-claims cache metrics (cache="jwt-claims").
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedClaimsCache, "jwt-claims");
+    }
+
+    public CacheStats claimsCacheStats() {
+        return verifiedClaimsCache.stats();
+    }
+
+    public long claimsCacheSize() {
+        return verifiedClaimsCache.estimatedSize();
     }
 
     /**
@@ -84,7 +168,7 @@ public class JwtUtil {
      * @return The extracted claim. / A claim extraída.
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = validateAndGetClaims(token);
         return claimsResolver.apply(claims);
     }
 
@@ -97,11 +181,7 @@ public class JwtUtil {
      */
     private Claims extractAllClaims(String token) throws JwtException {
          try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(this.secretKey) // Use the initialized key
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
          } catch (ExpiredJwtException e) {
              log.warn("JWT token is expired: {}", e.getMessage());
              throw e; // Re-throw specific exceptions if needed by callers
@@ -121,36 +201,52 @@ public class JwtUtil {
     }
 
     /**
-     * Checks if the token is expired.
-     * Verifica se o token está expirado.
+     * Validates the token against UserDetails (username match and expiration).
+     * Valida o token em relação ao UserDetails (correspondência de nome de usuário e expiração).
      * @param token The JWT token. / O token JWT.
-     * @return true if the token is expired, false otherwise. / true se o token expirou, false caso contrário.
+     * @param userDetails The UserDetails object. / O objeto UserDetails.
+     * @return true if the token is valid for the user, false otherwise. / true se o token for válido para o usuário, false caso contrário.
      */
-    private Boolean isTokenExpired(String token) {
+    public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            return extractExpiration(token).before(new Date());
-        } catch (ExpiredJwtException e) {
-            return true; // If parsing throws ExpiredJwtException, it's expired
+            return validateToken(validateAndGetClaims(token), userDetails);
         } catch (JwtException e) {
-            log.warn("Could not determine expiration due to other JWT exception: {}", e.getMessage());
-            return true; // Treat other parsing errors as potentially unsafe/expired
+            // Logged in extractAllClaims
+            return false;
         }
     }
 
     /**
-     * Validates the token against UserDetails (username match and expiration).
-     * Valida o token em relação ao UserDetails (correspondência de nome de usuário e expiração).
-     * @param token The JWT token. / O token JWT.
+     * Valida claims já verificadas em relação ao UserDetails, sem novo parse do token.
+     * Validates already verified claims against UserDetails, without parsing the token again.
+     * @param claims Claims returned by validateAndGetClaims. / Claims retornadas por validateAndGetClaims.
      * @param userDetails The UserDetails object. / O objeto UserDetails.
-     * @return true if the token is valid for the user, false otherwise. / true se o token for válido para o usuário, false caso contrário.
+     * @return true if the claims belong to the user and are not expired. / true se as claims pertencem ao usuário e não expiraram.
      */
-    public Boolean validateToken(String token, UserDetails userDetails) {
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        return claims.getSubject() != null
+                && claims.getSubject().equals(userDetails.getUsername())
+                && !isExpired(claims);
+    }
+
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
+    }
+
+    private long nanosUntilExpiration(Claims claims) {
+        if (claims.getExpiration() == null) {
+            return Duration.ofMinutes(5).toNanos(); // Tokens sem exp não ficam indefinidamente / Tokens without exp do not stay forever
+        }
+        long millis = Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis());
+        return Duration.ofMillis(millis).toNanos();
+    }
+
+    private static String digest(String token) {
         try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (JwtException e) {
-            // Logged in extractUsername or isTokenExpired
-            return false;
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
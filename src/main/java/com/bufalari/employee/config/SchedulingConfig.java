@@ -0,0 +1,13 @@
+package com.bufalari.employee.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita tarefas @Scheduled (ex: verificação periódica do ManagerDirectory).
+ * Enables @Scheduled tasks (e.g. the ManagerDirectory periodic check).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
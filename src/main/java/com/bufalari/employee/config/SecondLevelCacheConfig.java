@@ -0,0 +1,67 @@
+package com.bufalari.employee.config;
+
+import com.bufalari.employee.entity.EmployeeEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Configura o cache de segundo nível do Hibernate (JCache sobre Caffeine) com regiões limitadas.
+ * Configures the Hibernate second-level cache (JCache on top of Caffeine) with bounded regions.
+ *
+ * As regiões são criadas aqui, com tamanho e TTL vindos do application.yaml; regiões não declaradas
+ * fazem a inicialização falhar (missing_cache_strategy=fail) em vez de criar caches sem limite.
+ * Regions are created here, with size and TTL taken from application.yaml; undeclared regions make
+ * startup fail (missing_cache_strategy=fail) instead of creating unbounded caches.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${employee.cache.employees.max-size:5000}") long employeesMaxSize,
+                                              @Value("${employee.cache.employees.ttl:PT10M}") Duration employeesTtl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        CaffeineConfiguration<Object, Object> employees = new CaffeineConfiguration<>();
+        employees.setMaximumSize(OptionalLong.of(employeesMaxSize));
+        employees.setExpireAfterWrite(OptionalLong.of(employeesTtl.toNanos()));
+        employees.setNativeStatisticsEnabled(true); // Estatísticas do Caffeine (hit ratio) / Caffeine stats (hit ratio)
+        cacheManager.createCache(EmployeeEntity.CACHE_REGION, employees);
+        log.info("Second-level cache region '{}' created (maxSize={}, ttl={}).", EmployeeEntity.CACHE_REGION, employeesMaxSize, employeesTtl);
+        return cacheManager;
+    }
+
+    /**
+     * Publica as métricas nativas do Caffeine da região de funcionários (cache="employees").
+     * Publishes the native Caffeine metrics of the employees region (cache="employees").
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> CaffeineCacheMetrics.monitor(registry,
+                hibernateCacheManager.getCache(EmployeeEntity.CACHE_REGION).unwrap(Cache.class),
+                EmployeeEntity.CACHE_REGION);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.bufalari.employee.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Migração única de work_hours.department_id: os lançamentos gravados antes de a coluna existir recebem o
+ * departamento atual do funcionário (melhor aproximação disponível) e a FK fk_workhours_department é criada.
+ * Migrates work_hours.department_id once: entries recorded before the column existed get the employee's current
+ * department (the best approximation available) and the fk_workhours_department FK is created.
+ *
+ * Ao contrário do {@link DatabaseIndexInitializer}, não pode ser desligada e uma falha interrompe a
+ * inicialização: sem ela o custo por subárvore de departamentos omitiria as horas antigas em silêncio. A FK
+ * marca a migração como feita; depois disso cada inicialização só faz uma consulta ao catálogo. Um advisory lock
+ * faz as demais instâncias esperarem e pularem.
+ * Unlike {@link DatabaseIndexInitializer}, it cannot be disabled and a failure aborts startup: without it the
+ * department subtree cost would silently leave out the older hours. The FK marks the migration as done; after
+ * that each startup runs a single catalog query. An advisory lock makes other instances wait and skip.
+ */
+@Component
+public class WorkHoursDepartmentBackfill implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkHoursDepartmentBackfill.class);
+
+    private static final String DONE_SQL =
+            "SELECT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_workhours_department')";
+
+    // Só departamentos existentes: employees.department_id pode estar sem FK (ela é best-effort)
+    // Existing departments only: employees.department_id may lack its FK (it is best-effort)
+    private static final String BACKFILL_SQL =
+            "UPDATE work_hours wh SET department_id = e.department_id FROM employees e " +
+            "WHERE wh.employee_id = e.id AND wh.department_id IS NULL " +
+            "AND EXISTS (SELECT 1 FROM departments d WHERE d.id = e.department_id)";
+
+    private static final String FOREIGN_KEY_SQL =
+            "ALTER TABLE work_hours ADD CONSTRAINT fk_workhours_department " +
+            "FOREIGN KEY (department_id) REFERENCES departments (id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public WorkHoursDepartmentBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (isDone()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext('work_hours_department_backfill'))");
+                if (isDone()) {
+                    return; // Outra instância terminou enquanto esperávamos / Another instance finished while we waited
+                }
+                int updated = jdbcTemplate.update(BACKFILL_SQL);
+                jdbcTemplate.execute(FOREIGN_KEY_SQL);
+                log.info("work_hours.department_id backfilled for {} existing entries; fk_workhours_department created.", updated);
+            });
+        } catch (RuntimeException e) {
+            log.error("work_hours.department_id backfill failed; department subtree costs would miss earlier hours. "
+                    + "Aborting startup.", e);
+            throw e;
+        }
+    }
+
+    private boolean isDone() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(DONE_SQL, Boolean.class));
+    }
+}
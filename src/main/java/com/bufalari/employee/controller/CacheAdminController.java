@@ -0,0 +1,123 @@
+package com.bufalari.employee.controller;
+
+import com.bufalari.employee.client.AuthServiceGateway;
+import com.bufalari.employee.config.JwtUtil;
+import com.bufalari.employee.dto.CacheStatsDTO;
+import com.bufalari.employee.entity.EmployeeEntity;
+import com.bufalari.employee.security.PrincipalCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import javax.cache.CacheManager;
+
+/**
+ * Controlador administrativo para inspeção e invalidação dos caches em memória.
+ * Administrative controller to inspect and invalidate the in-memory caches.
+ */
+@RestController
+@RequestMapping("/employee-and-costs/admin/caches")
+@RequiredArgsConstructor
+@Tag(name = "Cache Administration", description = "Endpoints for inspecting and invalidating in-memory caches")
+public class CacheAdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheAdminController.class);
+    private final PrincipalCache principalCache;
+    private final AuthServiceGateway authServiceGateway;
+    private final JwtUtil jwtUtil;
+    private final CacheManager hibernateCacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Operation(summary = "Principal cache statistics", description = "Returns hit/miss/eviction statistics of the authenticated principal cache.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics returned"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/principals", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CacheStatsDTO> getPrincipalCacheStats() {
+        return ResponseEntity.ok(CacheStatsDTO.of("principals", principalCache.estimatedSize(), principalCache.stats()));
+    }
+
+    @Operation(summary = "Invalidate a cached principal", description = "Removes every cached principal entry of the given username, including its last known good copy used while the auth-service is unavailable.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Entries invalidated"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @DeleteMapping("/principals/{username}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> invalidatePrincipal(
+            @Parameter(description = "Username whose cached principal must be dropped") @PathVariable String username) {
+        log.info("Request received to invalidate cached principal for username: {}", username);
+        principalCache.invalidate(username);
+        authServiceGateway.invalidate(username);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Invalidate all cached principals", description = "Clears the whole principal cache.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Cache cleared"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @DeleteMapping("/principals")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> invalidateAllPrincipals() {
+        log.info("Request received to clear the principal cache");
+        principalCache.invalidateAll();
+        authServiceGateway.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Verified JWT claims cache statistics", description = "Returns hit/miss/eviction statistics of the verified-claims cache used by JWT validation.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics returned"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/jwt-claims", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CacheStatsDTO> getJwtClaimsCacheStats() {
+        return ResponseEntity.ok(CacheStatsDTO.of("jwt-claims", jwtUtil.claimsCacheSize(), jwtUtil.claimsCacheStats()));
+    }
+
+    @Operation(summary = "Employee second-level cache statistics", description = "Returns hit/miss/eviction statistics of the Hibernate second-level cache region holding employees.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics returned"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/employees", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CacheStatsDTO> getEmployeeCacheStats() {
+        Cache<?, ?> region = hibernateCacheManager.getCache(EmployeeEntity.CACHE_REGION).unwrap(Cache.class);
+        return ResponseEntity.ok(CacheStatsDTO.of(EmployeeEntity.CACHE_REGION, region.estimatedSize(), region.stats()));
+    }
+
+    @Operation(summary = "Evict all cached employees", description = "Clears the employee second-level cache region.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Region cleared"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @DeleteMapping("/employees")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> evictEmployees() {
+        log.info("Request received to clear the employee second-level cache");
+        entityManagerFactory.getCache().evict(EmployeeEntity.class);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.bufalari.employee.controller;
+
+import com.bufalari.employee.dto.CostCenterSpendReportDTO;
+import com.bufalari.employee.enums.SpendGranularity;
+import com.bufalari.employee.service.CostCenterSpendService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * Controlador para relatórios de gastos por centro de custo.
+ * Controller for cost-center spend reports.
+ */
+@RestController
+@RequestMapping("/employee-and-costs/cost-centers")
+@RequiredArgsConstructor
+@Tag(name = "Cost Center Spend", description = "Endpoints for aggregated cost-center labor spend")
+public class CostCenterController {
+
+    private static final Logger log = LoggerFactory.getLogger(CostCenterController.class);
+    private final CostCenterSpendService costCenterSpendService;
+
+    @Operation(summary = "Get spend of a cost center", description = "Returns hours and cost of a cost center grouped by day, week or month within a date range.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report returned", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CostCenterSpendReportDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or grouping"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/{costCenterId}/spend", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<CostCenterSpendReportDTO> getCostCenterSpend(
+            @Parameter(description = "ID of the cost center") @PathVariable Long costCenterId,
+            @Parameter(description = "Start date (inclusive), ISO format") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (inclusive), ISO format") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Grouping: DAY, WEEK or MONTH") @RequestParam(defaultValue = "MONTH") SpendGranularity groupBy) {
+        log.info("Request received to get spend of cost center {} from {} to {} by {}", costCenterId, from, to, groupBy);
+        return ResponseEntity.ok(costCenterSpendService.getSpendReport(costCenterId, from, to, groupBy));
+    }
+
+    @Operation(summary = "Get spend of all cost centers", description = "Returns hours and cost of every cost center grouped by day, week or month within a date range.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report returned", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CostCenterSpendReportDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or grouping"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/spend", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<CostCenterSpendReportDTO> getAllCostCentersSpend(
+            @Parameter(description = "Start date (inclusive), ISO format") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (inclusive), ISO format") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Grouping: DAY, WEEK or MONTH") @RequestParam(defaultValue = "MONTH") SpendGranularity groupBy) {
+        log.info("Request received to get spend of all cost centers from {} to {} by {}", from, to, groupBy);
+        return ResponseEntity.ok(costCenterSpendService.getSpendReport(null, from, to, groupBy));
+    }
+}
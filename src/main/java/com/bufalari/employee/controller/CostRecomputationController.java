@@ -0,0 +1,90 @@
+package com.bufalari.employee.controller;
+
+import com.bufalari.employee.dto.CostRecomputationJobDTO;
+import com.bufalari.employee.service.CostRecomputationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Controlador dos jobs de recálculo de custos das horas trabalhadas (progresso, vazão e retomada).
+ * Controller for work hours cost recomputation jobs (progress, throughput and resume).
+ */
+@RestController
+@RequestMapping("/employee-and-costs/recost-jobs")
+@RequiredArgsConstructor
+@Tag(name = "Cost Recomputation", description = "Endpoints for batched work hours cost recomputation jobs")
+public class CostRecomputationController {
+
+    private static final Logger log = LoggerFactory.getLogger(CostRecomputationController.class);
+    private final CostRecomputationService costRecomputationService;
+
+    @Operation(summary = "Start a cost recomputation", description = "Recomputes the cost of an employee's work hours in [from, to) from the hourly rate history (repair or backfill). Rows without an applicable rate keep their cost.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job started", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CostRecomputationJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CostRecomputationJobDTO> startRecomputation(
+            @Parameter(description = "UUID of the employee") @RequestParam UUID employeeId,
+            @Parameter(description = "First work date (inclusive), ISO format", example = "2024-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Work date where recomputation stops (exclusive), ISO format", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Request received to recompute costs of employee ID {} from {} to {}", employeeId, from, to);
+        CostRecomputationJobDTO job = costRecomputationService.startRecomputation(employeeId, from, to);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(job.getId()).toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @Operation(summary = "Get recomputation job progress", description = "Returns status, progress, throughput (rows per second) and the last error of a job.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job returned", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CostRecomputationJobDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    @GetMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+    public ResponseEntity<CostRecomputationJobDTO> getJob(
+            @Parameter(description = "UUID of the job") @PathVariable UUID jobId) {
+        log.debug("Request received for recomputation job ID: {}", jobId);
+        return ResponseEntity.ok(costRecomputationService.getJob(jobId));
+    }
+
+    @Operation(summary = "Resume a recomputation job", description = "Resumes a failed or interrupted job from its last committed chunk.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job resumed", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CostRecomputationJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Job already completed or still running"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    @PostMapping(value = "/{jobId}/resume", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CostRecomputationJobDTO> resume(
+            @Parameter(description = "UUID of the job") @PathVariable UUID jobId) {
+        log.info("Request received to resume recomputation job ID: {}", jobId);
+        return ResponseEntity.accepted().body(costRecomputationService.resume(jobId));
+    }
+}
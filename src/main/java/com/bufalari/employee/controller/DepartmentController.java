@@ -0,0 +1,159 @@
+package com.bufalari.employee.controller;
+
+import com.bufalari.employee.dto.DepartmentCostSummaryDTO;
+import com.bufalari.employee.dto.DepartmentDTO;
+import com.bufalari.employee.dto.SubDepartmentDTO;
+import com.bufalari.employee.service.DepartmentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controlador da hierarquia de departamentos/subdepartamentos e dos custos por subárvore.
+ * Controller for the department/sub-department hierarchy and per-subtree costs.
+ */
+@RestController
+@RequestMapping("/employee-and-costs/departments")
+@RequiredArgsConstructor
+@Tag(name = "Departments", description = "Endpoints for the department hierarchy and department subtree costs")
+public class DepartmentController {
+
+    private static final Logger log = LoggerFactory.getLogger(DepartmentController.class);
+    private final DepartmentService departmentService;
+
+    @Operation(summary = "List root departments", description = "Returns the root departments with their direct sub-departments, ordered by name.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Departments returned"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<DepartmentDTO>> getRootDepartments() {
+        log.debug("Request received to list root departments");
+        return ResponseEntity.ok(departmentService.getRootDepartments());
+    }
+
+    @Operation(summary = "Get department by ID", description = "Retrieves a department with its direct sub-departments.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Department found", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = DepartmentDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Department not found")
+    })
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<DepartmentDTO> getDepartmentById(
+            @Parameter(description = "UUID of the department") @PathVariable UUID id) {
+        log.debug("Request received to get department ID: {}", id);
+        return ResponseEntity.ok(departmentService.getDepartment(id));
+    }
+
+    @Operation(summary = "Create department", description = "Creates a department; with a parentId it is created as a sub-department of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Department created"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or unknown parent"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR_MANAGER')")
+    public ResponseEntity<DepartmentDTO> createDepartment(@Valid @RequestBody DepartmentDTO departmentDTO) {
+        log.info("Request received to create department: {}", departmentDTO.getName());
+        DepartmentDTO created = departmentService.createDepartment(departmentDTO);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(created.getId())
+                .toUri();
+        return ResponseEntity.created(location).body(created);
+    }
+
+    @Operation(summary = "Create sub-department", description = "Creates a sub-department under the given parent department.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Sub-department created"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or unknown parent"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PostMapping(value = "/sub-departments", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR_MANAGER')")
+    public ResponseEntity<SubDepartmentDTO> createSubDepartment(@Valid @RequestBody SubDepartmentDTO subDepartmentDTO) {
+        log.info("Request received to create sub-department '{}' under department ID: {}", subDepartmentDTO.getName(), subDepartmentDTO.getDepartmentId());
+        SubDepartmentDTO created = departmentService.createSubDepartment(subDepartmentDTO);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/employee-and-costs/departments/{id}")
+                .buildAndExpand(created.getId())
+                .toUri();
+        return ResponseEntity.created(location).body(created);
+    }
+
+    @Operation(summary = "Update department", description = "Renames a department and/or moves it, with its whole subtree, under another parent (null parentId makes it a root).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Department updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid input, unknown parent or move into its own subtree"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Department not found")
+    })
+    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR_MANAGER')")
+    public ResponseEntity<DepartmentDTO> updateDepartment(
+            @Parameter(description = "UUID of the department") @PathVariable UUID id,
+            @Valid @RequestBody DepartmentDTO departmentDTO) {
+        log.info("Request received to update department ID: {}", id);
+        return ResponseEntity.ok(departmentService.updateDepartment(id, departmentDTO));
+    }
+
+    @Operation(summary = "Delete department", description = "Deletes a department that has no sub-departments and no employees.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Department deleted"),
+            @ApiResponse(responseCode = "400", description = "Department still has sub-departments or employees"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Department not found")
+    })
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR_MANAGER')")
+    public ResponseEntity<Void> deleteDepartment(@Parameter(description = "UUID of the department") @PathVariable UUID id) {
+        log.info("Request received to delete department ID: {}", id);
+        departmentService.deleteDepartment(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get department subtree cost", description = "Returns hours and cost of every employee in the department and all its sub-departments within a date range, with each department's own share.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Summary returned", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = DepartmentCostSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid date range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Department not found")
+    })
+    @GetMapping(value = "/{id}/cost-summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<DepartmentCostSummaryDTO> getDepartmentCostSummary(
+            @Parameter(description = "UUID of the department") @PathVariable UUID id,
+            @Parameter(description = "Start date (inclusive), ISO format") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (inclusive), ISO format") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Request received to get cost of department {} subtree from {} to {}", id, from, to);
+        return ResponseEntity.ok(departmentService.getSubtreeCost(id, from, to));
+    }
+}
@@ -1,9 +1,19 @@
 package com.bufalari.employee.controller;
 
+import com.bufalari.employee.dto.CursorPageDTO;
+import com.bufalari.employee.dto.EmployeeBatchGetRequestDTO;
+import com.bufalari.employee.dto.EmployeeBatchGetResultDTO;
 import com.bufalari.employee.dto.EmployeeDTO;
+import com.bufalari.employee.dto.EmployeeRateDTO;
+import com.bufalari.employee.dto.EmployeeSearchResultDTO;
+import com.bufalari.employee.dto.WorkHoursBatchResultDTO;
 import com.bufalari.employee.dto.WorkHoursDTO;
+import com.bufalari.employee.dto.WorkHoursEntryDTO;
 import com.bufalari.employee.dto.AllocationHistoryDTO;
+import com.bufalari.employee.service.EmployeeRateService;
+import com.bufalari.employee.service.EmployeeSearchService;
 import com.bufalari.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter; // Importar Parameter
 import io.swagger.v3.oas.annotations.media.Content; // Importar Content
@@ -11,18 +21,28 @@ import io.swagger.v3.oas.annotations.media.Schema; // Importar Schema
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag; // Importar Tag
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid; // Importar @Valid
 import lombok.RequiredArgsConstructor; // Usar Lombok
 import org.slf4j.Logger; // Importar Logger
 import org.slf4j.LoggerFactory; // Importar LoggerFactory
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus; // Importar HttpStatus
 import org.springframework.http.MediaType; // Importar MediaType
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder; // Para Location header
 
+import java.io.IOException;
 import java.net.URI; // Importar URI
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID; // <<<--- IMPORT UUID
 
@@ -38,6 +58,8 @@ public class EmployeeController {
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeController.class);
     private final EmployeeService employeeService;
+    private final EmployeeRateService employeeRateService;
+    private final EmployeeSearchService employeeSearchService;
 
     /**
      * Cria um novo funcionário.
@@ -93,22 +115,93 @@ public class EmployeeController {
     }
 
     /**
-     * Lista todos os funcionários.
+     * Busca vários funcionários por ID e/ou userId em uma chamada.
      */
-    @Operation(summary = "List all employees", description = "Retrieves a list of all employees.")
+    @Operation(summary = "Get employees in batch", description = "Resolves many employees by UUID and/or auth userId in one call (one IN query per chunk), for service-to-service callers that would otherwise call GET /{id} in a loop. Returns the employees keyed by ID and lists the identifiers that were not found.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of employees returned", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = List.class))),
+            @ApiResponse(responseCode = "200", description = "Batch resolved; see missingIds/missingUserIds", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = EmployeeBatchGetResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "No identifiers, null identifiers or more than the configured limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/batch-get", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()") // Mesma regra do GET /{id} / Same rule as GET /{id}
+    public ResponseEntity<EmployeeBatchGetResultDTO> getEmployeesBatch(@RequestBody EmployeeBatchGetRequestDTO request) {
+        log.debug("Request received to batch fetch employees ({} ids, {} userIds)",
+                request.getIds() != null ? request.getIds().size() : 0,
+                request.getUserIds() != null ? request.getUserIds().size() : 0);
+        EmployeeBatchGetResultDTO result = employeeService.getEmployeesBatch(request);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Lista funcionários paginados por cursor (keyset).
+     */
+    @Operation(summary = "List employees (cursor paginated)", description = "Retrieves employees ordered by last name, first name and ID, one page at a time. Pass the returned nextCursor to fetch the following page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of employees returned", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CursorPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or malformed cursor"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'HR_MANAGER')") // Exemplo de roles que podem listar
-    public ResponseEntity<List<EmployeeDTO>> getAllEmployees() {
-        log.debug("Request received to list all employees");
-        List<EmployeeDTO> employees = employeeService.getAllEmployees();
-        log.info("Returning {} employees", employees.size());
-        return ResponseEntity.ok(employees);
+    public ResponseEntity<CursorPageDTO<EmployeeDTO>> getAllEmployees(
+            @Parameter(description = "Cursor returned by the previous page (omit for the first page)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1 to 200)") @RequestParam(defaultValue = "50") int size) {
+        log.debug("Request received to list employees (cursor present: {}, size: {})", cursor != null, size);
+        CursorPageDTO<EmployeeDTO> page = employeeService.getEmployeesPage(cursor, size);
+        log.info("Returning {} employees (hasMore: {})", page.getSize(), page.isHasMore());
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Busca typeahead de funcionários por nome, cidade e (ADMIN/HR_MANAGER) SIN.
+     */
+    @Operation(summary = "Search employees (typeahead)", description = "Returns a small list of employees whose last name, first name, \"first last\" or city starts with the term, topped up with similar names (typo tolerant) when prefixes do not fill the limit, ranked by relevance. ADMIN and HR_MANAGER also match an exact SIN; the SIN is never returned.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching employees returned", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = EmployeeSearchResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Search term too short/long or invalid limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'HR_MANAGER')")
+    public ResponseEntity<List<EmployeeSearchResultDTO>> searchEmployees(
+            @Parameter(description = "Search text (at least 2 characters)") @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of results (1 to 50)") @RequestParam(defaultValue = "10") int limit,
+            Authentication authentication) {
+        boolean includeSin = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(a -> a.equals("ROLE_ADMIN") || a.equals("ROLE_HR_MANAGER"));
+        log.debug("Request received to search employees (term length: {}, limit: {})", query.length(), limit);
+        List<EmployeeSearchResultDTO> results = employeeSearchService.search(query, limit, includeSin);
+        log.debug("Employee search returned {} results", results.size());
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Exporta todos os funcionários em NDJSON, em streaming.
+     */
+    @Operation(summary = "Export all employees (NDJSON stream)", description = "Streams every employee as newline-delimited JSON (one EmployeeDTO per line). Memory use does not grow with the table size.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "NDJSON stream of employees", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = EmployeeDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER')")
+    public void exportEmployees(HttpServletResponse response) throws IOException {
+        log.info("Request received to export all employees as NDJSON");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.ndjson\"");
+        long exported = employeeService.exportEmployees(response.getOutputStream());
+        log.info("Exported {} employees as NDJSON", exported);
     }
 
     /**
@@ -138,6 +231,26 @@ public class EmployeeController {
         return ResponseEntity.ok(updatedEmployee);
     }
 
+    @Operation(summary = "Partially update an employee", description = "Applies a JSON Merge Patch to the employee identified by UUID: only the fields present in the body change (nested address fields are merged). Only the modified columns are written.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employee updated successfully", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = EmployeeDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid patch body or resulting employee is invalid"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Employee not found"),
+            @ApiResponse(responseCode = "409", description = "Conflict (e.g. userId or SIN already in use)")
+    })
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR_MANAGER')")
+    public ResponseEntity<EmployeeDTO> patchEmployee(
+            @Parameter(description = "UUID of the employee to update") @PathVariable UUID id,
+            @RequestBody JsonNode patch) {
+        log.info("Request received to patch employee ID: {}", id);
+        EmployeeDTO updatedEmployee = employeeService.patchEmployee(id, patch);
+        log.info("Employee patched successfully for ID: {}", id);
+        return ResponseEntity.ok(updatedEmployee);
+    }
+
     /**
      * Exclui um funcionário por UUID.
      */
@@ -194,6 +307,54 @@ public class EmployeeController {
         return ResponseEntity.created(location).body(savedWorkHours);
     }
 
+    @Operation(summary = "Register work hours in bulk", description = "Registers many work hours records (each with its employeeId) in one call. Invalid items are rejected individually; the result lists the outcome of every item in request order.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = WorkHoursBatchResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Empty batch or batch larger than the configured limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/work-hours/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<WorkHoursBatchResultDTO> registerWorkHoursBulk(@RequestBody List<WorkHoursDTO> workHours) {
+        log.info("Request received to register {} work hours records in bulk", workHours.size());
+        WorkHoursBatchResultDTO result = employeeService.registerWorkHoursBulk(workHours);
+        log.info("Bulk work hours processed: {} created, {} rejected", result.getCreated(), result.getRejected());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "List work hours of an employee", description = "Returns the employee's work hours within a date range, ordered by work date, using keyset pagination. Supports conditional GET: send the ETag back in If-None-Match to get 304 when nothing changed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of work hours returned"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range, page size or cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Employee not found")
+    })
+    @GetMapping(value = "/{employeeId}/work-hours", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'EMPLOYEE')")
+    public ResponseEntity<CursorPageDTO<WorkHoursEntryDTO>> getWorkHours(
+            @Parameter(description = "UUID of the employee") @PathVariable UUID employeeId,
+            @Parameter(description = "Start date (inclusive), ISO format") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (inclusive), ISO format") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Cursor returned by the previous page (omit for the first page)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1 to 200)") @RequestParam(defaultValue = "50") int size,
+            WebRequest webRequest) {
+        log.info("Request received to list work hours for employee ID {} from {} to {}", employeeId, from, to);
+        String etag = employeeService.getWorkHoursETag(employeeId, from, to, cursor, size);
+        if (webRequest.checkNotModified(etag)) {
+            log.debug("Work hours for employee ID {} not modified (ETag {})", employeeId, etag);
+            return null; // 304 já preparado pelo WebRequest / 304 already prepared by the WebRequest
+        }
+        CursorPageDTO<WorkHoursEntryDTO> page = employeeService.getWorkHoursPage(employeeId, from, to, cursor, size);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(page);
+    }
+
     // --- Alocação ---
 
     @Operation(summary = "Allocate employee to project", description = "Creates an allocation record for an employee (identified by UUID) to a project.")
@@ -243,4 +404,46 @@ public class EmployeeController {
         log.info("Returning {} allocation history records for employee {}", history.size(), employeeId);
         return ResponseEntity.ok(history);
     }
-}
\ No newline at end of file
+
+    // --- Valor-hora ---
+
+    @Operation(summary = "Add an effective-dated hourly rate", description = "Records the employee's hourly rate from a date (retroactive allowed, future not) and starts a background job that recomputes the cost of the work hours it applies to.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Rate recorded; recomputation job started", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = EmployeeRateDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data (e.g., future date or duplicate effective date)"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Employee not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/{employeeId}/rates", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR_MANAGER')")
+    public ResponseEntity<EmployeeRateDTO> addRate(
+            @Parameter(description = "UUID of the employee") @PathVariable UUID employeeId,
+            @Valid @RequestBody EmployeeRateDTO rateDTO) {
+        log.info("Request received to add hourly rate effective from {} for employee ID {}", rateDTO.getEffectiveFrom(), employeeId);
+        EmployeeRateDTO savedRate = employeeRateService.addRate(employeeId, rateDTO);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath().path("/employee-and-costs/recost-jobs/{id}")
+                .buildAndExpand(savedRate.getRecomputationJobId())
+                .toUri();
+        // 202: o recálculo dos custos continua em segundo plano / cost recomputation continues in the background
+        return ResponseEntity.accepted().location(location).body(savedRate);
+    }
+
+    @Operation(summary = "Get hourly rate history", description = "Lists the effective-dated hourly rates of an employee, most recent first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rate history retrieved successfully", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = List.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Employee not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/{employeeId}/rates", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR_MANAGER', 'MANAGER')")
+    public ResponseEntity<List<EmployeeRateDTO>> getRates(
+            @Parameter(description = "UUID of the employee") @PathVariable UUID employeeId) {
+        log.debug("Request received for rate history of employee ID: {}", employeeId);
+        return ResponseEntity.ok(employeeRateService.getRates(employeeId));
+    }
+}
@@ -0,0 +1,150 @@
+package com.bufalari.employee.controller;
+
+import com.bufalari.employee.dto.ManagerResponsibleDTO;
+import com.bufalari.employee.exception.ResourceNotFoundException;
+import com.bufalari.employee.service.ManagerDirectory;
+import com.bufalari.employee.service.ManagerResponsibleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controlador do cadastro de gerentes/responsáveis. Leituras vêm do índice em memória ({@link ManagerDirectory}).
+ * Controller for the managers/responsibles registry. Reads come from the in-memory index ({@link ManagerDirectory}).
+ */
+@RestController
+@RequestMapping("/employee-and-costs/managers")
+@RequiredArgsConstructor
+@Tag(name = "Managers", description = "Endpoints for managers and responsibles used by approval flows")
+public class ManagerResponsibleController {
+
+    private static final Logger log = LoggerFactory.getLogger(ManagerResponsibleController.class);
+    private final ManagerDirectory managerDirectory;
+    private final ManagerResponsibleService managerService;
+
+    @Operation(summary = "List managers", description = "Returns every manager/responsible, ordered by name, from the in-memory directory.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Managers returned"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<ManagerResponsibleDTO>> getAllManagers() {
+        log.debug("Request received to list all managers");
+        return ResponseEntity.ok(managerDirectory.findAll());
+    }
+
+    @Operation(summary = "Get manager by ID", description = "Retrieves a manager/responsible by ID from the in-memory directory.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Manager found", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ManagerResponsibleDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Manager not found")
+    })
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ManagerResponsibleDTO> getManagerById(
+            @Parameter(description = "UUID of the manager") @PathVariable UUID id) {
+        log.debug("Request received to get manager ID: {}", id);
+        return ResponseEntity.ok(managerDirectory.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Manager not found with ID: " + id)));
+    }
+
+    @Operation(summary = "Get manager by code", description = "Retrieves a manager/responsible by its exact code from the in-memory directory.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Manager found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Manager not found")
+    })
+    @GetMapping(value = "/by-code/{code}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ManagerResponsibleDTO> getManagerByCode(
+            @Parameter(description = "Code of the manager") @PathVariable String code) {
+        log.debug("Request received to get manager by code: {}", code);
+        return ResponseEntity.ok(managerDirectory.findByCode(code)
+                .orElseThrow(() -> new ResourceNotFoundException("Manager not found with code: " + code)));
+    }
+
+    @Operation(summary = "Get manager by email", description = "Retrieves a manager/responsible by email (case-insensitive) from the in-memory directory.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Manager found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Manager not found")
+    })
+    @GetMapping(value = "/by-email", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ManagerResponsibleDTO> getManagerByEmail(
+            @Parameter(description = "Email of the manager") @RequestParam String email) {
+        log.debug("Request received to get manager by email: {}", email);
+        return ResponseEntity.ok(managerDirectory.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Manager not found with email: " + email)));
+    }
+
+    @Operation(summary = "Create manager", description = "Creates a manager/responsible. Code and email must be unique.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Manager created"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or duplicate code/email"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR_MANAGER')")
+    public ResponseEntity<ManagerResponsibleDTO> createManager(@Valid @RequestBody ManagerResponsibleDTO managerDTO) {
+        log.info("Request received to create manager with code: {}", managerDTO.getCode());
+        ManagerResponsibleDTO created = managerService.createManager(managerDTO);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(created.getId())
+                .toUri();
+        return ResponseEntity.created(location).body(created);
+    }
+
+    @Operation(summary = "Update manager", description = "Updates a manager/responsible. Code and email must stay unique.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Manager updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or duplicate code/email"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Manager not found")
+    })
+    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR_MANAGER')")
+    public ResponseEntity<ManagerResponsibleDTO> updateManager(
+            @Parameter(description = "UUID of the manager") @PathVariable UUID id,
+            @Valid @RequestBody ManagerResponsibleDTO managerDTO) {
+        log.info("Request received to update manager ID: {}", id);
+        return ResponseEntity.ok(managerService.updateManager(id, managerDTO));
+    }
+
+    @Operation(summary = "Delete manager", description = "Deletes a manager/responsible.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Manager deleted"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Manager not found")
+    })
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('HR_MANAGER')")
+    public ResponseEntity<Void> deleteManager(@Parameter(description = "UUID of the manager") @PathVariable UUID id) {
+        log.info("Request received to delete manager ID: {}", id);
+        managerService.deleteManager(id);
+        return ResponseEntity.noContent().build();
+    }
+}
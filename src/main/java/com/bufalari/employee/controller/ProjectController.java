@@ -0,0 +1,86 @@
+package com.bufalari.employee.controller;
+
+import com.bufalari.employee.dto.ProjectCostSummaryDTO;
+import com.bufalari.employee.dto.ProjectStaffDTO;
+import com.bufalari.employee.service.ProjectCostService;
+import com.bufalari.employee.service.ProjectStaffingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controlador para consultas por projeto (custos agregados e equipe alocada).
+ * Controller for per-project queries (aggregated costs and allocated staff).
+ */
+@RestController
+@RequestMapping("/employee-and-costs/projects")
+@RequiredArgsConstructor
+@Tag(name = "Project Costs", description = "Endpoints for aggregated project labor costs")
+public class ProjectController {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectController.class);
+    private final ProjectCostService projectCostService;
+    private final ProjectStaffingService projectStaffingService;
+
+    @Operation(summary = "Get project cost summary", description = "Returns total hours and cost of a project, broken down per employee and per month, read from the pre-aggregated rollup.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Summary returned", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ProjectCostSummaryDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/{projectId}/cost-summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ProjectCostSummaryDTO> getProjectCostSummary(
+            @Parameter(description = "ID of the project") @PathVariable Long projectId) {
+        log.info("Request received to get cost summary for project ID: {}", projectId);
+        return ResponseEntity.ok(projectCostService.getProjectCostSummary(projectId));
+    }
+
+    @Operation(summary = "Rebuild project cost rollup", description = "Recomputes the cost rollup of a project from its work hours records (backfill or repair).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rollup rebuilt"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PostMapping(value = "/{projectId}/cost-summary/rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildProjectCostRollup(
+            @Parameter(description = "ID of the project") @PathVariable Long projectId) {
+        log.info("Request received to rebuild cost rollup for project ID: {}", projectId);
+        int rows = projectCostService.rebuildProject(projectId);
+        return ResponseEntity.ok(Map.of("projectId", projectId, "rollupRows", rows));
+    }
+
+    @Operation(summary = "Get project staffing on a date", description = "Lists the employees allocated to the project on the given date (defaults to today).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Staff returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid date"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/{projectId}/staffing", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<List<ProjectStaffDTO>> getProjectStaffing(
+            @Parameter(description = "ID of the project") @PathVariable Long projectId,
+            @Parameter(description = "Reference date, ISO format (defaults to today)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate referenceDate = date != null ? date : LocalDate.now();
+        log.info("Request received to get staffing of project ID {} on {}", projectId, referenceDate);
+        return ResponseEntity.ok(projectStaffingService.getStaffOnDate(projectId, referenceDate));
+    }
+}
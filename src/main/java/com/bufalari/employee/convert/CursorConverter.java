@@ -0,0 +1,56 @@
+package com.bufalari.employee.convert;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Codifica/decodifica cursores opacos de paginação keyset (JSON em Base64 URL-safe).
+ * Encodes/decodes opaque keyset pagination cursors (JSON in URL-safe Base64).
+ */
+@Component
+@RequiredArgsConstructor
+public class CursorConverter {
+
+    private static final TypeReference<List<String>> VALUES_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Gera o cursor a partir dos valores da chave de ordenação da última linha.
+     * Builds the cursor from the sort-key values of the last row.
+     */
+    public String encode(List<String> sortKeyValues) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(sortKeyValues);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode pagination cursor", e);
+        }
+    }
+
+    /**
+     * Decodifica o cursor, validando o número esperado de valores.
+     * Decodes the cursor, checking the expected number of values.
+     * @throws IllegalArgumentException if the cursor is malformed. / Se o cursor for inválido.
+     */
+    public List<String> decode(String cursor, int expectedValues) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            List<String> values = objectMapper.readValue(json, VALUES_TYPE);
+            if (values == null || values.size() != expectedValues) {
+                throw new IllegalArgumentException("Malformed pagination cursor.");
+            }
+            return values;
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Malformed pagination cursor.", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bufalari.employee.convert;
+
+import com.bufalari.employee.dto.DepartmentDTO;
+import com.bufalari.employee.dto.SubDepartmentDTO;
+import com.bufalari.employee.entity.DepartmentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Conversor entre DepartmentEntity e DepartmentDTO/SubDepartmentDTO.
+ * Converter between DepartmentEntity and DepartmentDTO/SubDepartmentDTO.
+ */
+@Component
+public class DepartmentConverter {
+
+    /**
+     * Converte o departamento com seus filhos diretos.
+     * Converts the department with its direct children.
+     */
+    public DepartmentDTO entityToDTO(DepartmentEntity department, List<DepartmentEntity> children) {
+        if (department == null) return null;
+        return new DepartmentDTO(
+                department.getId(),
+                department.getName(),
+                department.getParent() != null ? department.getParent().getId() : null,
+                children.stream().map(child -> subDepartmentToDTO(child, department)).toList());
+    }
+
+    /**
+     * Converte um filho direto, com o nome do pai já carregado.
+     * Converts a direct child, with the parent's name already loaded.
+     */
+    public SubDepartmentDTO subDepartmentToDTO(DepartmentEntity child, DepartmentEntity parent) {
+        return SubDepartmentDTO.builder()
+                .id(child.getId())
+                .name(child.getName())
+                .departmentId(parent.getId())
+                .departmentName(parent.getName())
+                .build();
+    }
+}
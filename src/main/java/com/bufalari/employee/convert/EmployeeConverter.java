@@ -34,6 +34,7 @@ public class EmployeeConverter {
         employeeDTO.setHireDate(employeeEntity.getHireDate());
         employeeDTO.setTerminationDate(employeeEntity.getTerminationDate()); // Adicionado
         employeeDTO.setEmploymentType(employeeEntity.getEmploymentType()); // Adicionado
+        employeeDTO.setDepartmentId(employeeEntity.getDepartmentId());
 
         // Usa o AddressConverter injetado
         employeeDTO.setAddress(addressConverter.entityToDTO(employeeEntity.getAddress()));
@@ -58,26 +59,39 @@ public class EmployeeConverter {
 
         EmployeeEntity employeeEntity = new EmployeeEntity();
         employeeEntity.setId(employeeDTO.getId()); // <<<--- UUID (Mantém para updates)
+        employeeEntity.setHourlyRate(employeeDTO.getHourlyRate()); // Valor inicial; depois só via vigências / Initial rate; afterwards only through rates
+        applyToEntity(employeeDTO, employeeEntity);
+
+        // Relações (Role, WorkHours, Allocations) geralmente não são definidas aqui,
+        // mas sim no serviço ao criar/atualizar o funcionário ou ao adicionar um item relacionado.
+
+        return employeeEntity;
+    }
+
+    /**
+     * Copies the DTO fields onto an existing (usually managed) entity, leaving ID, relations and hourly rate untouched.
+     * Copia os campos do DTO para uma entidade existente (normalmente gerenciada), sem alterar ID, relações e valor-hora.
+     * O valor-hora muda só via EmployeeRateService.addRate (histórico + recálculo).
+     * The hourly rate only changes through EmployeeRateService.addRate (history + recomputation).
+     * Valores iguais não sujam a entidade, então o Hibernate só atualiza as colunas realmente alteradas.
+     * Equal values do not dirty the entity, so Hibernate only updates the columns that actually changed.
+     */
+    public void applyToEntity(EmployeeDTO employeeDTO, EmployeeEntity employeeEntity) {
         employeeEntity.setUserId(employeeDTO.getUserId()); // <<<--- UUID
         employeeEntity.setFirstName(employeeDTO.getFirstName());
         employeeEntity.setLastName(employeeDTO.getLastName());
         employeeEntity.setSocialInsuranceNumber(employeeDTO.getSocialInsuranceNumber());
         employeeEntity.setBirthDate(employeeDTO.getBirthDate());
         employeeEntity.setHireDate(employeeDTO.getHireDate());
-        employeeEntity.setTerminationDate(employeeDTO.getTerminationDate()); // Adicionado
-        employeeEntity.setEmploymentType(employeeDTO.getEmploymentType()); // Adicionado
+        employeeEntity.setTerminationDate(employeeDTO.getTerminationDate());
+        employeeEntity.setEmploymentType(employeeDTO.getEmploymentType());
+        employeeEntity.setDepartmentId(employeeDTO.getDepartmentId());
 
         // Usa o AddressConverter injetado
         employeeEntity.setAddress(addressConverter.dtoToEntity(employeeDTO.getAddress()));
 
         employeeEntity.setSalary(employeeDTO.getSalary());
-        employeeEntity.setHourlyRate(employeeDTO.getHourlyRate()); // Adicionado
-        employeeEntity.setBenefitsCostMonthly(employeeDTO.getBenefitsCostMonthly()); // Adicionado
+        employeeEntity.setBenefitsCostMonthly(employeeDTO.getBenefitsCostMonthly());
         employeeEntity.setPayFrequency(employeeDTO.getPayFrequency());
-
-        // Relações (Role, WorkHours, Allocations) geralmente não são definidas aqui,
-        // mas sim no serviço ao criar/atualizar o funcionário ou ao adicionar um item relacionado.
-
-        return employeeEntity;
     }
-}
\ No newline at end of file
+}
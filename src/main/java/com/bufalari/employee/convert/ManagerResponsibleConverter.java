@@ -0,0 +1,41 @@
+package com.bufalari.employee.convert;
+
+import com.bufalari.employee.dto.ManagerResponsibleDTO;
+import com.bufalari.employee.entity.ManagerResponsibleEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts between ManagerResponsibleEntity and ManagerResponsibleDTO.
+ * Conversor entre ManagerResponsibleEntity e ManagerResponsibleDTO.
+ */
+@Component
+public class ManagerResponsibleConverter {
+
+    /**
+     * Converts a ManagerResponsibleEntity to ManagerResponsibleDTO.
+     * Converte uma entidade ManagerResponsibleEntity para ManagerResponsibleDTO.
+     * @param entity The entity to convert. / A entidade a ser convertida.
+     * @return The corresponding DTO. / O DTO correspondente.
+     */
+    public ManagerResponsibleDTO entityToDTO(ManagerResponsibleEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new ManagerResponsibleDTO(entity.getId(), entity.getCode(), entity.getName(), entity.getPosition(),
+                entity.getPhone(), entity.getEmail());
+    }
+
+    /**
+     * Copies the DTO fields (except the ID) onto the entity.
+     * Copia os campos do DTO (exceto o ID) para a entidade.
+     * @param dto The source DTO. / O DTO de origem.
+     * @param entity The entity to update. / A entidade a ser atualizada.
+     */
+    public void applyToEntity(ManagerResponsibleDTO dto, ManagerResponsibleEntity entity) {
+        entity.setCode(dto.getCode().trim());
+        entity.setName(dto.getName());
+        entity.setPosition(dto.getPosition());
+        entity.setPhone(dto.getPhone());
+        entity.setEmail(dto.getEmail().trim());
+    }
+}
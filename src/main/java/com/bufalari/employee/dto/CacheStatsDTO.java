@@ -0,0 +1,43 @@
+package com.bufalari.employee.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com as estatísticas de um cache em memória.
+ * DTO with the statistics of an in-memory cache.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDTO {
+
+    @Schema(description = "Cache name", example = "principals")
+    private String name;
+
+    @Schema(description = "Approximate number of entries", example = "120")
+    private long size;
+
+    @Schema(description = "Number of lookups served from the cache", example = "98000")
+    private long hitCount;
+
+    @Schema(description = "Number of lookups that had to load the value", example = "2000")
+    private long missCount;
+
+    @Schema(description = "Hit ratio between 0 and 1", example = "0.98")
+    private double hitRate;
+
+    @Schema(description = "Number of entries evicted (size or expiry)", example = "350")
+    private long evictionCount;
+
+    @Schema(description = "Number of loads that failed with an exception", example = "3")
+    private long loadFailureCount;
+
+    public static CacheStatsDTO of(String name, long size, CacheStats stats) {
+        return new CacheStatsDTO(name, size, stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), stats.loadFailureCount());
+    }
+}
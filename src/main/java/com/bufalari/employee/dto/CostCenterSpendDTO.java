@@ -0,0 +1,34 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Horas e custo de um centro de custo em um período.
+ * Hours and cost of a cost center within one period.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostCenterSpendDTO {
+
+    @Schema(description = "ID of the cost center", example = "202")
+    private Long costCenterId;
+
+    @Schema(description = "First day of the period (day, Monday of the week, or first day of the month)", example = "2024-05-01")
+    private LocalDate period;
+
+    @Schema(description = "Total hours worked", example = "320.00")
+    private BigDecimal totalHours;
+
+    @Schema(description = "Total calculated cost", example = "11360.00")
+    private BigDecimal totalCost;
+
+    @Schema(description = "Number of work hours entries", example = "42")
+    private Long entryCount;
+}
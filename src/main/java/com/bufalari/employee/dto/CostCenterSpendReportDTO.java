@@ -0,0 +1,39 @@
+package com.bufalari.employee.dto;
+
+import com.bufalari.employee.enums.SpendGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Relatório de gastos por centro de custo em um intervalo de datas.
+ * Spend report per cost center over a date range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostCenterSpendReportDTO {
+
+    @Schema(description = "Start date (inclusive)", example = "2024-05-01")
+    private LocalDate from;
+
+    @Schema(description = "End date (inclusive)", example = "2024-05-31")
+    private LocalDate to;
+
+    @Schema(description = "Grouping granularity", example = "MONTH")
+    private SpendGranularity groupBy;
+
+    @Schema(description = "Total hours over the whole range", example = "320.00")
+    private BigDecimal totalHours;
+
+    @Schema(description = "Total cost over the whole range", example = "11360.00")
+    private BigDecimal totalCost;
+
+    @Schema(description = "One row per cost center and period")
+    private List<CostCenterSpendDTO> rows;
+}
@@ -0,0 +1,69 @@
+package com.bufalari.employee.dto;
+
+import com.bufalari.employee.enums.CostRecomputationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progresso e vazão de um job de recálculo de custos.
+ * Progress and throughput of a cost recomputation job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostRecomputationJobDTO {
+
+    @Schema(description = "UUID of the job", example = "0190a1b2-c3d4-7e5f-8a9b-0c1d2e3f4a5b")
+    private UUID id;
+
+    @Schema(description = "UUID of the employee whose work hours are recomputed", example = "e1e2e3e4-f5f6-7890-1234-567890abcdef")
+    private UUID employeeId;
+
+    @Schema(description = "First work date recomputed (inclusive)", example = "2024-03-01")
+    private LocalDate fromDate;
+
+    @Schema(description = "Work date where recomputation stops (exclusive, null if unbounded)", example = "2024-09-01", nullable = true)
+    private LocalDate toDate;
+
+    @Schema(description = "Job status", example = "RUNNING")
+    private CostRecomputationStatus status;
+
+    @Schema(description = "Work hours rows processed per transaction", example = "1000")
+    private int chunkSize;
+
+    @Schema(description = "Rows in the range when the job was created", example = "18250")
+    private long totalRows;
+
+    @Schema(description = "Rows processed so far", example = "9000")
+    private long rowsScanned;
+
+    @Schema(description = "Rows whose calculated cost changed", example = "8990")
+    private long rowsUpdated;
+
+    @Schema(description = "Chunks committed so far", example = "9")
+    private int chunksCompleted;
+
+    @Schema(description = "Progress percentage, relative to totalRows", example = "49.3")
+    private double percentComplete;
+
+    @Schema(description = "Rows processed per second of chunk processing time", example = "5120.4")
+    private double rowsPerSecond;
+
+    @Schema(description = "When processing first started", nullable = true)
+    private LocalDateTime startedAt;
+
+    @Schema(description = "When the job completed or failed", nullable = true)
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Last error message, if the job failed", nullable = true)
+    private String lastError;
+
+    @Schema(description = "User who requested the job", example = "hr.manager")
+    private String requestedBy;
+}
@@ -0,0 +1,31 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de resultados paginada por cursor (keyset).
+ * Page of results paginated by cursor (keyset).
+ * @param <T> Item type. / Tipo do item.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Items of this page, in the listing order")
+    private List<T> items;
+
+    @Schema(description = "Number of items in this page", example = "50")
+    private int size;
+
+    @Schema(description = "Opaque cursor to request the next page; null when there are no more items", example = "WyJQZXJlaXJhIiwiQ2FybG9zIiwiZTFlMi4uLiJd", nullable = true)
+    private String nextCursor;
+
+    @Schema(description = "Whether more items exist after this page", example = "true")
+    private boolean hasMore;
+}
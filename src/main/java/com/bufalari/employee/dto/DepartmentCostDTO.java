@@ -0,0 +1,40 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Custo próprio de um departamento da subárvore (horas lançadas em seu nome, sem os subdepartamentos).
+ * Own cost of one department in the subtree (hours recorded against it, excluding its sub-departments).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentCostDTO {
+
+    @Schema(description = "UUID of the department", example = "d1d2d3d4-e5e6-f7f8-a9a0-b1b2b3b4b5b6")
+    private UUID departmentId;
+
+    @Schema(description = "Name of the department", example = "Estruturas")
+    private String departmentName;
+
+    @Schema(description = "Depth below the requested department (0 = the department itself)", example = "1")
+    private int depth;
+
+    @Schema(description = "Hours recorded against the department itself", example = "160.00")
+    private BigDecimal totalHours;
+
+    @Schema(description = "Cost of those hours", example = "5680.00")
+    private BigDecimal totalCost;
+
+    @Schema(description = "Number of work hours entries", example = "20")
+    private long entryCount;
+
+    @Schema(description = "Employees with work hours in the range", example = "2")
+    private long employeeCount;
+}
@@ -0,0 +1,48 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custo das horas trabalhadas em toda a subárvore de um departamento em um período.
+ * Work hours cost of a department's whole subtree within a date range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentCostSummaryDTO {
+
+    @Schema(description = "UUID of the department at the root of the subtree", example = "d1d2d3d4-e5e6-f7f8-a9a0-b1b2b3b4b5b6")
+    private UUID departmentId;
+
+    @Schema(description = "Name of the department", example = "Engenharia")
+    private String departmentName;
+
+    @Schema(description = "Start date (inclusive)", example = "2024-04-01")
+    private LocalDate from;
+
+    @Schema(description = "End date (inclusive)", example = "2024-04-30")
+    private LocalDate to;
+
+    @Schema(description = "Total hours in the subtree", example = "640.00")
+    private BigDecimal totalHours;
+
+    @Schema(description = "Total cost in the subtree", example = "22720.00")
+    private BigDecimal totalCost;
+
+    @Schema(description = "Total work hours entries in the subtree", example = "80")
+    private long entryCount;
+
+    @Schema(description = "Employees with work hours in the subtree", example = "8")
+    private long employeeCount;
+
+    @Schema(description = "Own cost of each department in the subtree, by depth and name")
+    private List<DepartmentCostDTO> departments;
+}
@@ -1,6 +1,8 @@
 package com.bufalari.employee.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.NoArgsConstructor; // Adicionar
 import lombok.AllArgsConstructor; // Adicionar
@@ -20,9 +22,14 @@ public class DepartmentDTO {
     @Schema(description = "Unique identifier (UUID) of the department", example = "d1d2d3d4-e5e6-f7f8-a9a0-b1b2b3b4b5b6", readOnly = true)
     private UUID id; // <<<--- Changed to UUID
 
-    @Schema(description = "Name of the department", example = "Engenharia")
+    @NotBlank(message = "{department.name.required}")
+    @Size(max = 100, message = "{department.name.size}")
+    @Schema(description = "Name of the department", example = "Engenharia", requiredMode = Schema.RequiredMode.REQUIRED)
     private String name;
 
-    @Schema(description = "List of sub-departments within this department")
+    @Schema(description = "UUID of the parent department (null for a root department)", example = "a1a2a3a4-b5b6-c7c8-d9d0-e1e2e3e4e5e6", nullable = true)
+    private UUID parentId;
+
+    @Schema(description = "List of sub-departments within this department", accessMode = Schema.AccessMode.READ_ONLY)
     private List<SubDepartmentDTO> subDepartments; // SubDepartmentDTO também deve usar UUID
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pedido de busca em lote de funcionários por ID e/ou userId.
+ * Batch fetch request of employees by ID and/or userId.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchGetRequestDTO {
+
+    @Schema(description = "Employee UUIDs to fetch (duplicates are ignored)", example = "[\"e1e2e3e4-f5f6-7890-1234-567890abcdef\"]")
+    private List<UUID> ids;
+
+    @Schema(description = "Auth-service user UUIDs to fetch (duplicates are ignored)", example = "[\"f0e9d8c7-b6a5-4321-fedc-ba9876543210\"]")
+    private List<UUID> userIds;
+}
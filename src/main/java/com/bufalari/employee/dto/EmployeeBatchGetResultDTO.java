@@ -0,0 +1,32 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resultado da busca em lote: funcionários encontrados por ID e os identificadores não encontrados.
+ * Batch fetch result: employees found, keyed by ID, and the identifiers that were not found.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchGetResultDTO {
+
+    @Schema(description = "Employees found (by ID or by userId), keyed by employee UUID")
+    private Map<UUID, EmployeeDTO> employees;
+
+    @Schema(description = "Employee UUID of each requested userId that was found, keyed by userId")
+    private Map<UUID, UUID> employeeIdsByUserId;
+
+    @Schema(description = "Requested employee UUIDs that do not exist, in request order")
+    private List<UUID> missingIds;
+
+    @Schema(description = "Requested userIds not linked to any employee, in request order")
+    private List<UUID> missingUserIds;
+}
@@ -0,0 +1,31 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Horas e custo agregados de um funcionário.
+ * Aggregated hours and cost of one employee.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeCostDTO {
+
+    @Schema(description = "UUID of the employee", example = "e1e2e3e4-f5f6-7890-1234-567890abcdef")
+    private UUID employeeId;
+
+    @Schema(description = "Total hours worked", example = "160.00")
+    private BigDecimal totalHours;
+
+    @Schema(description = "Total calculated cost", example = "5680.00")
+    private BigDecimal totalCost;
+
+    @Schema(description = "Number of work hours entries", example = "21")
+    private Long entryCount;
+}
@@ -1,6 +1,7 @@
 package com.bufalari.employee.dto;
 
 import com.bufalari.employee.enums.EmploymentType; // Importar Enum
+import com.fasterxml.jackson.annotation.JsonMerge;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid; // Para validar AddressDTO
 import jakarta.validation.constraints.*;
@@ -61,14 +62,18 @@ public class EmployeeDTO {
     @Schema(description = "Type of employment", example = "FULL_TIME", requiredMode = Schema.RequiredMode.REQUIRED)
     private EmploymentType employmentType; // Adicionado
 
+    @Schema(description = "UUID of the employee's department or sub-department", example = "d1d2d3d4-e5e6-f7f8-a9a0-b1b2b3b4b5b6", nullable = true)
+    private UUID departmentId;
+
     @Valid // Validar o DTO de endereço aninhado
+    @JsonMerge // PATCH altera só os campos de endereço enviados / PATCH only changes the address fields sent
     @Schema(description = "Employee's address", nullable = true)
     private AddressDTO address; // Pode ser nulo
 
     @Schema(description = "Gross salary amount", example = "60000.00", nullable = true)
     private BigDecimal salary; // Pode ser nulo (ex: horista)
 
-    @Schema(description = "Hourly rate", example = "35.50", nullable = true)
+    @Schema(description = "Hourly rate. Set on creation; afterwards changed only through POST /employees/{id}/rates (PUT/PATCH must send the current value or omit it)", example = "35.50", nullable = true)
     private BigDecimal hourlyRate; // Adicionado, pode ser nulo (ex: assalariado)
 
      @Schema(description = "Estimated monthly cost of benefits", example = "500.00", nullable = true)
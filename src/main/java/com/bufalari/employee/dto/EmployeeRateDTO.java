@@ -0,0 +1,47 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Valor-hora com data de vigência de um funcionário.
+ * Effective-dated hourly rate of an employee.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeRateDTO {
+
+    @Schema(description = "UUID of the rate record", example = "f1f2f3f4-a1a2-b3b4-c5c6-d7d8d9d0d1d2", readOnly = true)
+    private UUID id;
+
+    @Schema(description = "UUID of the employee", example = "e1e2e3e4-f5f6-7890-1234-567890abcdef", readOnly = true)
+    private UUID employeeId;
+
+    @NotNull(message = "Hourly rate is required / Valor-hora é obrigatório")
+    @DecimalMin(value = "0.01", message = "Hourly rate must be positive / Valor-hora deve ser positivo")
+    @Digits(integer = 6, fraction = 2, message = "Hourly rate supports up to 6 integer digits and 2 decimals / Valor-hora aceita até 6 dígitos inteiros e 2 decimais")
+    @Schema(description = "Hourly rate in effect from effectiveFrom", example = "38.75", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal hourlyRate;
+
+    @NotNull(message = "Effective date is required / Data de vigência é obrigatória")
+    @Schema(description = "First work date the rate applies to (must not be in the future)", example = "2024-03-01", requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalDate effectiveFrom;
+
+    @Size(max = 500, message = "Reason must be at most 500 characters / Motivo deve ter no máximo 500 caracteres")
+    @Schema(description = "Reason for the rate change", example = "Retroactive collective agreement adjustment", nullable = true)
+    private String reason;
+
+    @Schema(description = "UUID of the cost recomputation job started for this rate (null when listing)", readOnly = true, nullable = true)
+    private UUID recomputationJobId;
+}
@@ -0,0 +1,36 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Resultado enxuto da busca de funcionários (typeahead), ordenado por relevância.
+ * Slim employee search (typeahead) result, ordered by relevance.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchResultDTO {
+
+    @Schema(description = "UUID of the employee", example = "e1e2e3e4-f5f6-7890-1234-567890abcdef")
+    private UUID id;
+
+    @Schema(description = "Employee's first name", example = "John")
+    private String firstName;
+
+    @Schema(description = "Employee's last name", example = "Doe")
+    private String lastName;
+
+    @Schema(description = "City of the employee's address", example = "Toronto", nullable = true)
+    private String city;
+
+    @Schema(description = "Type of employment", example = "FULL_TIME")
+    private String employmentType;
+
+    @Schema(description = "Relevance score: 4 exact SIN, 3 first and last name prefix, 2 last or first name prefix, 1 city prefix, below 1 name similarity", example = "2.0")
+    private double score;
+}
@@ -0,0 +1,31 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Horas e custo agregados de um mês.
+ * Aggregated hours and cost of one month.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyCostDTO {
+
+    @Schema(description = "First day of the month", example = "2024-05-01")
+    private LocalDate month;
+
+    @Schema(description = "Total hours worked", example = "1240.50")
+    private BigDecimal totalHours;
+
+    @Schema(description = "Total calculated cost", example = "44037.75")
+    private BigDecimal totalCost;
+
+    @Schema(description = "Number of work hours entries", example = "165")
+    private Long entryCount;
+}
@@ -0,0 +1,34 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Resumo de custos de um projeto (totais e quebras por funcionário e por mês).
+ * Cost summary of a project (totals plus per-employee and per-month breakdowns).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectCostSummaryDTO {
+
+    @Schema(description = "ID of the project", example = "101")
+    private Long projectId;
+
+    @Schema(description = "Total hours worked on the project", example = "3520.00")
+    private BigDecimal totalHours;
+
+    @Schema(description = "Total calculated cost of the project", example = "124960.00")
+    private BigDecimal totalCost;
+
+    @Schema(description = "Totals per employee, highest cost first")
+    private List<EmployeeCostDTO> byEmployee;
+
+    @Schema(description = "Totals per month, in chronological order")
+    private List<MonthlyCostDTO> byMonth;
+}
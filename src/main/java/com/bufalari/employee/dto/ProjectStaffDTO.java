@@ -0,0 +1,37 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Funcionário alocado a um projeto em uma data.
+ * Employee allocated to a project on a date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStaffDTO {
+
+    @Schema(description = "UUID of the allocation record", example = "f1f2f3f4-a1a2-b3b4-c5c6-d7d8d9d0d1d2")
+    private UUID allocationId;
+
+    @Schema(description = "UUID of the employee", example = "e1e2e3e4-f5f6-7890-1234-567890abcdef")
+    private UUID employeeId;
+
+    @Schema(description = "Employee's first name", example = "John")
+    private String firstName;
+
+    @Schema(description = "Employee's last name", example = "Doe")
+    private String lastName;
+
+    @Schema(description = "Start date of the allocation", example = "2024-01-15")
+    private LocalDate startDate;
+
+    @Schema(description = "End date of the allocation (null if open-ended)", example = "2024-06-30", nullable = true)
+    private LocalDate endDate;
+}
@@ -1,5 +1,6 @@
 package com.bufalari.employee.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema; // Importar
 import lombok.Data;
 import lombok.NoArgsConstructor; // Adicionar
@@ -28,4 +29,9 @@ public class UserDetailsDTO {
 
     @Schema(description = "List of user roles")
     private List<String> roles; // <<<--- Adicionada lista de roles
+
+    // Último resultado bom servido com o auth-service indisponível (AuthServiceGateway); nunca vem do JSON
+    // Last good result served while the auth-service is unavailable (AuthServiceGateway); never read from JSON
+    @JsonIgnore
+    private boolean stale;
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de um item da ingestão em lote de horas trabalhadas.
+ * Result of one item of the bulk work-hours ingestion.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkHoursBatchItemResultDTO {
+
+    public enum Status { CREATED, REJECTED }
+
+    @Schema(description = "Zero-based position of the item in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Outcome of the item", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "Saved work hours (only when CREATED)", nullable = true)
+    private WorkHoursDTO workHours;
+
+    @Schema(description = "Reason the item was rejected (only when REJECTED)", example = "Employee not found with ID: e1e2e3e4-f5f6-7890-1234-567890abcdef", nullable = true)
+    private String error;
+
+    public static WorkHoursBatchItemResultDTO created(int index, WorkHoursDTO workHours) {
+        return new WorkHoursBatchItemResultDTO(index, Status.CREATED, workHours, null);
+    }
+
+    public static WorkHoursBatchItemResultDTO rejected(int index, String error) {
+        return new WorkHoursBatchItemResultDTO(index, Status.REJECTED, null, error);
+    }
+}
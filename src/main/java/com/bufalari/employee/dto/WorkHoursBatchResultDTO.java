@@ -0,0 +1,30 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resumo da ingestão em lote de horas trabalhadas, com o resultado de cada item.
+ * Summary of the bulk work-hours ingestion, with the result of each item.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkHoursBatchResultDTO {
+
+    @Schema(description = "Number of items received", example = "1000")
+    private int received;
+
+    @Schema(description = "Number of items saved", example = "998")
+    private int created;
+
+    @Schema(description = "Number of items rejected", example = "2")
+    private int rejected;
+
+    @Schema(description = "Per-item results, in request order")
+    private List<WorkHoursBatchItemResultDTO> results;
+}
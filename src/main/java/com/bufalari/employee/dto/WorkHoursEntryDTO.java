@@ -0,0 +1,41 @@
+package com.bufalari.employee.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projeção enxuta de um registro de horas trabalhadas, usada nas leituras de timesheet.
+ * Slim projection of a work hours record, used by timesheet reads.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkHoursEntryDTO {
+
+    @Schema(description = "Unique identifier (UUID) of the work hours record", example = "01890a5d-ac96-774b-bcce-b302099a8057")
+    private UUID id;
+
+    @Schema(description = "Date the work was performed", example = "2024-05-01")
+    private LocalDate workDate;
+
+    @Schema(description = "Number of hours worked", example = "7.5")
+    private BigDecimal hoursWorked;
+
+    @Schema(description = "ID of the project, if allocated to a project", example = "101", nullable = true)
+    private Long projectId;
+
+    @Schema(description = "ID of the cost center, if allocated to a cost center", example = "202", nullable = true)
+    private Long costCenterId;
+
+    @Schema(description = "Calculated cost for these hours", example = "266.25")
+    private BigDecimal calculatedCost;
+
+    @Schema(description = "Optional description of the work performed", example = "Concrete pouring - Section A", nullable = true)
+    private String description;
+}
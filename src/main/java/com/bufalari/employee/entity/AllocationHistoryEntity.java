@@ -1,6 +1,7 @@
 package com.bufalari.employee.entity;
 
 import com.bufalari.employee.auditing.AuditableBaseEntity;
+import com.bufalari.employee.idgen.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 // import org.hibernate.annotations.GenericGenerator; // Não mais necessário
@@ -24,7 +25,7 @@ import java.util.UUID;
 public class AllocationHistoryEntity extends AuditableBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID) // <<< ESTRATÉGIA UUID
+    @TimeOrderedUuid // UUIDv7 ordenado por tempo (configurável) / time-ordered UUIDv7 (configurable)
     @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
     private UUID id;
 
@@ -0,0 +1,100 @@
+package com.bufalari.employee.entity;
+
+import com.bufalari.employee.auditing.AuditableBaseEntity;
+import com.bufalari.employee.enums.CostRecomputationStatus;
+import com.bufalari.employee.idgen.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Job de recálculo de work_hours.calculated_cost de um funcionário em um intervalo de datas.
+ * O cursor (work_date, id) é gravado na mesma transação de cada chunk, então o job retoma de onde parou.
+ * Job that recomputes work_hours.calculated_cost of an employee over a date range.
+ * The (work_date, id) cursor is written in the same transaction as each chunk, so the job resumes where it stopped.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "cost_recomputation_jobs", indexes = {
+    @Index(name = "idx_recost_job_employee_id", columnList = "employee_id"),
+    @Index(name = "idx_recost_job_status", columnList = "status")
+})
+public class CostRecomputationJobEntity extends AuditableBaseEntity {
+
+    @Id
+    @TimeOrderedUuid // UUIDv7 ordenado por tempo (configurável) / time-ordered UUIDv7 (configurable)
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
+    private UUID id;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version; // Impede dois runners no mesmo job / Prevents two runners on the same job
+
+    // Sem FK: o histórico do job sobrevive à exclusão do funcionário / No FK: job history survives employee deletion
+    @Column(name = "employee_id", nullable = false, columnDefinition = "uuid")
+    private UUID employeeId;
+
+    @Column(name = "from_date", nullable = false)
+    private LocalDate fromDate;
+
+    @Column(name = "to_date") // Exclusiva; nula = sem limite / Exclusive; null = unbounded
+    private LocalDate toDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private CostRecomputationStatus status;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    @Column(name = "total_rows", nullable = false)
+    private long totalRows; // Estimativa no momento da criação / Estimate taken at creation
+
+    @Column(name = "cursor_work_date", nullable = false)
+    private LocalDate cursorWorkDate;
+
+    @Column(name = "cursor_id", nullable = false, columnDefinition = "uuid")
+    private UUID cursorId;
+
+    @Column(name = "rows_scanned", nullable = false)
+    private long rowsScanned;
+
+    @Column(name = "rows_updated", nullable = false)
+    private long rowsUpdated;
+
+    @Column(name = "chunks_completed", nullable = false)
+    private int chunksCompleted;
+
+    @Column(name = "processing_millis", nullable = false)
+    private long processingMillis; // Tempo somado dos chunks, base da vazão / Summed chunk time, basis for throughput
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CostRecomputationJobEntity that = (CostRecomputationJobEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
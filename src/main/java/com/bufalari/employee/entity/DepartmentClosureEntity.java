@@ -0,0 +1,30 @@
+package com.bufalari.employee.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Closure table da hierarquia de departamentos: uma linha por par (ancestral, descendente), incluindo o
+ * próprio nó com profundidade 0. A subárvore de X é {@code ancestor_id = X} (prefixo da chave primária).
+ * Mantida pelo DepartmentService ao criar, mover e excluir departamentos.
+ * Closure table of the department hierarchy: one row per (ancestor, descendant) pair, including the node
+ * itself at depth 0. The subtree of X is {@code ancestor_id = X} (primary key prefix).
+ * Maintained by DepartmentService when departments are created, moved and deleted.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "department_closure", indexes = {
+    @Index(name = "idx_dc_descendant_id", columnList = "descendant_id, ancestor_id") // Ancestrais de um nó / Ancestors of a node
+})
+public class DepartmentClosureEntity {
+
+    @EmbeddedId
+    private DepartmentClosureId id;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+}
@@ -0,0 +1,27 @@
+package com.bufalari.employee.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Chave composta da closure table: ancestral e descendente.
+ * Composite key of the closure table: ancestor and descendant.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class DepartmentClosureId implements Serializable {
+
+    @Column(name = "ancestor_id", nullable = false, columnDefinition = "uuid")
+    private UUID ancestorId;
+
+    @Column(name = "descendant_id", nullable = false, columnDefinition = "uuid")
+    private UUID descendantId;
+}
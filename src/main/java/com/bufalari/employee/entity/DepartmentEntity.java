@@ -0,0 +1,52 @@
+package com.bufalari.employee.entity;
+
+import com.bufalari.employee.auditing.AuditableBaseEntity;
+import com.bufalari.employee.idgen.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Departamento; um subdepartamento é um departamento com pai. A hierarquia completa (todos os ancestrais de
+ * cada nó) fica em {@link DepartmentClosureEntity}, para consultas de subárvore sem recursão.
+ * Department; a sub-department is a department with a parent. The full hierarchy (every ancestor of each
+ * node) lives in {@link DepartmentClosureEntity}, for subtree queries without recursion.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "departments", indexes = {
+    @Index(name = "idx_department_parent_id", columnList = "parent_id")
+})
+public class DepartmentEntity extends AuditableBaseEntity {
+
+    @Id
+    @TimeOrderedUuid // UUIDv7 ordenado por tempo (configurável) / time-ordered UUIDv7 (configurable)
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
+    private UUID id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id", foreignKey = @ForeignKey(name = "fk_department_parent"))
+    private DepartmentEntity parent; // Nulo para departamentos raiz / Null for root departments
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DepartmentEntity that = (DepartmentEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
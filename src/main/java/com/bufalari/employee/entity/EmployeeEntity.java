@@ -1,9 +1,13 @@
 package com.bufalari.employee.entity;
 
 import com.bufalari.employee.auditing.AuditableBaseEntity;
+import com.bufalari.employee.idgen.TimeOrderedUuid;
 import com.bufalari.employee.enums.EmploymentType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 // import org.hibernate.annotations.GenericGenerator; // Não mais necessário
 
 import java.math.BigDecimal;
@@ -22,12 +26,18 @@ import java.util.UUID;
 @Table(name = "employees", indexes = {
         @Index(name = "idx_employee_user_id", columnList = "user_id", unique = true), // user_id deve ser único se presente
         @Index(name = "idx_employee_sin", columnList = "socialInsuranceNumber", unique = true), // SIN deve ser único se presente
-        @Index(name = "idx_employee_lastname_firstname", columnList = "lastName, firstName")
+        @Index(name = "idx_employee_lastname_firstname", columnList = "lastName, firstName"),
+        @Index(name = "idx_employee_department_id", columnList = "department_id") // Custos por subárvore de departamento / Department subtree costs
 })
+@DynamicUpdate // UPDATE apenas das colunas alteradas / UPDATE only the changed columns
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EmployeeEntity.CACHE_REGION) // Cache L2 para buscas por UUID / L2 cache for UUID lookups
 public class EmployeeEntity extends AuditableBaseEntity {
 
+    /** Região do cache de segundo nível. / Second-level cache region. */
+    public static final String CACHE_REGION = "employees";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID) // <<< ESTRATÉGIA UUID
+    @TimeOrderedUuid // UUIDv7 ordenado por tempo (configurável) / time-ordered UUIDv7 (configurable)
     @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
     private UUID id;
 
@@ -65,6 +75,9 @@ public class EmployeeEntity extends AuditableBaseEntity {
     @Column(precision = 10, scale = 2)
     private BigDecimal benefitsCostMonthly;
 
+    @Column(name = "department_id", columnDefinition = "uuid") // Departamento ou subdepartamento (departments.id)
+    private UUID departmentId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 30) // Aumentar tamanho para nomes de enum completos
     private EmploymentType employmentType;
@@ -0,0 +1,58 @@
+package com.bufalari.employee.entity;
+
+import com.bufalari.employee.auditing.AuditableBaseEntity;
+import com.bufalari.employee.idgen.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Valor-hora de um funcionário com data de vigência; vale até a próxima vigência do mesmo funcionário.
+ * Effective-dated hourly rate of an employee; it applies until the employee's next effective date.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "employee_rate_history",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rate_employee_effective_from", columnNames = {"employee_id", "effective_from"}))
+public class EmployeeRateHistoryEntity extends AuditableBaseEntity {
+
+    @Id
+    @TimeOrderedUuid // UUIDv7 ordenado por tempo (configurável) / time-ordered UUIDv7 (configurable)
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "employee_id", nullable = false,
+                foreignKey = @ForeignKey(name = "fk_rate_history_employee"))
+    private EmployeeEntity employee;
+
+    @Column(name = "hourly_rate", nullable = false, precision = 8, scale = 2) // Mesma precisão de employees.hourly_rate
+    private BigDecimal hourlyRate;
+
+    @Column(name = "effective_from", nullable = false)
+    private LocalDate effectiveFrom;
+
+    @Column(name = "reason", length = 500)
+    private String reason;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeRateHistoryEntity that = (EmployeeRateHistoryEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,36 @@
+package com.bufalari.employee.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Rollup pré-agregado de horas e custos por projeto, funcionário e mês.
+ * Mantido incrementalmente (upsert) sempre que horas trabalhadas de projeto são gravadas.
+ * Pre-aggregated rollup of hours and cost per project, employee and month.
+ * Incrementally maintained (upsert) whenever project work hours are written.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "project_cost_rollup", indexes = {
+    @Index(name = "idx_pcr_employee_id", columnList = "employee_id")
+})
+public class ProjectCostRollupEntity {
+
+    @EmbeddedId
+    private ProjectCostRollupId id;
+
+    @Column(name = "total_hours", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalHours;
+
+    @Column(name = "total_cost", nullable = false, precision = 16, scale = 2)
+    private BigDecimal totalCost;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+}
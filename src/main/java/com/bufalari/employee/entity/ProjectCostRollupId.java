@@ -0,0 +1,31 @@
+package com.bufalari.employee.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Chave composta do rollup de custos: projeto, funcionário e mês (primeiro dia do mês).
+ * Composite key of the cost rollup: project, employee and month (first day of the month).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class ProjectCostRollupId implements Serializable {
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "employee_id", nullable = false, columnDefinition = "uuid")
+    private UUID employeeId;
+
+    @Column(name = "work_month", nullable = false)
+    private LocalDate workMonth;
+}
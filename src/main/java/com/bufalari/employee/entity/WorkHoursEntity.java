@@ -1,6 +1,7 @@
 package com.bufalari.employee.entity;
 
 import com.bufalari.employee.auditing.AuditableBaseEntity;
+import com.bufalari.employee.idgen.TimeOrderedUuid;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull; // Manter para validação a nível de entidade, se desejado
 import lombok.*;
@@ -21,10 +22,11 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Table(name = "work_hours", indexes = {
-    @Index(name = "idx_wh_employee_id", columnList = "employee_id"),
+    @Index(name = "idx_wh_employee_work_date", columnList = "employee_id, work_date"), // Leituras de timesheet por intervalo / Timesheet range reads
     @Index(name = "idx_wh_project_id", columnList = "project_id"),
-    @Index(name = "idx_wh_cost_center_id", columnList = "cost_center_id"),
+    @Index(name = "idx_wh_cost_center_work_date", columnList = "cost_center_id, work_date"), // Relatórios de gastos por período / Spend reports by period
     @Index(name = "idx_wh_work_date", columnList = "work_date"),
+    @Index(name = "idx_wh_department_work_date", columnList = "department_id, work_date"), // Custo por subárvore de departamentos / Department subtree cost
     // Constraint para garantir que um funcionário não tenha múltiplas entradas para o mesmo dia, projeto e centro de custo
     // Isso pode ser muito restritivo. Considere se é realmente necessário ou se a descrição diferencia.
     // @UniqueConstraint(name = "uk_wh_emp_date_proj_cc", columnNames = {"employee_id", "work_date", "project_id", "cost_center_id"})
@@ -34,7 +36,7 @@ public class WorkHoursEntity extends AuditableBaseEntity {
     private static final Logger log = LoggerFactory.getLogger(WorkHoursEntity.class);
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID) // <<< ESTRATÉGIA UUID
+    @TimeOrderedUuid // UUIDv7 ordenado por tempo (configurável) / time-ordered UUIDv7 (configurable)
     @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
     private UUID id;
 
@@ -49,6 +51,13 @@ public class WorkHoursEntity extends AuditableBaseEntity {
     @Column(name = "cost_center_id") // Mantido como Long (ou UUID se o cost-center-service usar UUID)
     private Long costCenterId;
 
+    /**
+     * Departamento do funcionário no momento do lançamento; não muda se ele trocar de departamento depois.
+     * The employee's department when the entry was recorded; it does not change if they move department later.
+     */
+    @Column(name = "department_id", updatable = false, columnDefinition = "uuid")
+    private UUID departmentId;
+
     @NotNull
     @Column(name = "work_date", nullable = false)
     private LocalDate workDate;
@@ -63,9 +72,25 @@ public class WorkHoursEntity extends AuditableBaseEntity {
     @Column(name = "description", length = 500)
     private String description;
 
+    /**
+     * Valor-hora vigente na work_date, resolvido pelo serviço a partir do histórico; nulo (funcionário sem
+     * histórico) usa employee.hourlyRate.
+     * Hourly rate in effect on work_date, resolved by the service from the history; null (employee without
+     * history) uses employee.hourlyRate.
+     */
+    @Transient
+    private BigDecimal effectiveHourlyRate;
+
+    /**
+     * Valida a alocação (projeto XOR centro de custo) e as horas, e calcula o custo.
+     * Público para que a ingestão em lote possa validar cada item antes do flush.
+     * Validates the allocation (project XOR cost center) and the hours, and calculates the cost.
+     * Public so that bulk ingestion can validate each item before flushing.
+     * @throws IllegalStateException or IllegalArgumentException if the record is invalid.
+     */
     @PrePersist
     @PreUpdate
-    private void validateAndCalculateCost() {
+    public void validateAndCalculateCost() {
         UUID currentIdLog = this.getId() != null ? this.getId() : UUID.fromString("0-0-0-0-0"); // Placeholder for new entities in log
 
         if (projectId == null && costCenterId == null) {
@@ -82,13 +107,14 @@ public class WorkHoursEntity extends AuditableBaseEntity {
             throw new IllegalArgumentException("Hours worked must be positive.");
         }
 
-        if (employee != null && employee.getHourlyRate() != null && employee.getHourlyRate().compareTo(BigDecimal.ZERO) > 0) {
-            this.calculatedCost = hoursWorked.multiply(employee.getHourlyRate()).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal hourlyRate = effectiveHourlyRate != null ? effectiveHourlyRate : (employee != null ? employee.getHourlyRate() : null);
+        if (hourlyRate != null && hourlyRate.compareTo(BigDecimal.ZERO) > 0) {
+            this.calculatedCost = hoursWorked.multiply(hourlyRate).setScale(2, RoundingMode.HALF_UP);
             log.debug("Calculated cost for WorkHours (ID: {}) as: {}", currentIdLog, this.calculatedCost);
         } else {
             this.calculatedCost = BigDecimal.ZERO;
             String employeeIdLog = (employee != null && employee.getId() != null) ? employee.getId().toString() : "UNKNOWN_OR_NULL";
-            BigDecimal hourlyRateLog = (employee != null) ? employee.getHourlyRate() : null;
+            BigDecimal hourlyRateLog = hourlyRate;
             log.warn("Cannot calculate cost for WorkHours (ID: {}): Employee (ID: {}) or its hourly rate (Rate: {}) is null or not positive.",
                     currentIdLog, employeeIdLog, hourlyRateLog);
         }
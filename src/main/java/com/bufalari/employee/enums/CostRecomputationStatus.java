@@ -0,0 +1,12 @@
+package com.bufalari.employee.enums;
+
+/**
+ * Estados de um job de recálculo de custos.
+ * States of a cost recomputation job.
+ */
+public enum CostRecomputationStatus {
+    PENDING,   // Criado, ainda não iniciado / Created, not started yet
+    RUNNING,   // Processando chunks / Processing chunks
+    COMPLETED, // Todos os registros do intervalo foram processados / Every record in the range was processed
+    FAILED     // Interrompido por erro; pode ser retomado do cursor / Stopped by an error; can resume from the cursor
+}
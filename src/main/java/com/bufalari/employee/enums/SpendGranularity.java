@@ -0,0 +1,21 @@
+package com.bufalari.employee.enums;
+
+/**
+ * Granularidade de agrupamento dos relatórios de gastos (unidade do date_trunc do PostgreSQL).
+ * Grouping granularity of spend reports (PostgreSQL date_trunc unit).
+ */
+public enum SpendGranularity {
+    DAY("day"),     // Por dia / Per day
+    WEEK("week"),   // Por semana ISO, iniciando na segunda-feira / Per ISO week, starting on Monday
+    MONTH("month"); // Por mês / Per month
+
+    private final String truncUnit;
+
+    SpendGranularity(String truncUnit) {
+        this.truncUnit = truncUnit;
+    }
+
+    public String getTruncUnit() {
+        return truncUnit;
+    }
+}
@@ -0,0 +1,23 @@
+package com.bufalari.employee.idgen;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marca um identificador UUID gerado por {@link TimeOrderedUuidGenerator} (UUIDv7 por padrão).
+ * Marks a UUID identifier generated by {@link TimeOrderedUuidGenerator} (UUIDv7 by default).
+ *
+ * A estratégia é configurável por {@value TimeOrderedUuidGenerator#STRATEGY_SETTING}.
+ * The strategy is configurable through {@value TimeOrderedUuidGenerator#STRATEGY_SETTING}.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,74 @@
+package com.bufalari.employee.idgen;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * Gerador de IDs UUID plugável para o Hibernate.
+ * Pluggable UUID identifier generator for Hibernate.
+ *
+ * Estratégias / Strategies (hibernate property {@value #STRATEGY_SETTING}):
+ * <ul>
+ *     <li>{@code time-ordered} (padrão / default): UUIDv7, inserções sequenciais nos índices B-tree / sequential B-tree inserts;</li>
+ *     <li>{@code random}: UUIDv4 aleatório (comportamento anterior) / random UUIDv4 (previous behaviour);</li>
+ *     <li>nome de classe que implementa {@code Supplier<UUID>} / class name implementing {@code Supplier<UUID>}.</li>
+ * </ul>
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeOrderedUuidGenerator.class);
+
+    public static final String STRATEGY_SETTING = "bufalari.id.uuid-strategy";
+    public static final String TIME_ORDERED = "time-ordered";
+    public static final String RANDOM = "random";
+
+    private final Supplier<UUID> strategy;
+
+    public TimeOrderedUuidGenerator(TimeOrderedUuid config, Member member, CustomIdGeneratorCreationContext context) {
+        String configured = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSetting(STRATEGY_SETTING, value -> value.toString().trim(), TIME_ORDERED);
+        this.strategy = resolve(configured);
+        log.debug("UUID strategy '{}' selected for {}.{}", configured,
+                member.getDeclaringClass().getSimpleName(), member.getName());
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return strategy.get();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Supplier<UUID> resolve(String strategyName) {
+        if (TIME_ORDERED.equalsIgnoreCase(strategyName)) {
+            return UuidV7::next;
+        }
+        if (RANDOM.equalsIgnoreCase(strategyName)) {
+            return UUID::randomUUID;
+        }
+        try {
+            Class<?> type = Class.forName(strategyName);
+            return (Supplier<UUID>) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Invalid UUID strategy '" + strategyName + "' for " + STRATEGY_SETTING
+                    + ". Use '" + TIME_ORDERED + "', '" + RANDOM + "' or a Supplier<UUID> class name.", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bufalari.employee.idgen;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUID versão 7 (RFC 9562): 48 bits de timestamp Unix em ms, seguidos de um contador
+ * de 12 bits (monotônico dentro do processo) e 62 bits aleatórios.
+ * UUID version 7 generator (RFC 9562): 48-bit Unix timestamp in ms, followed by a 12-bit counter
+ * (monotonic within the process) and 62 random bits.
+ *
+ * No PostgreSQL o tipo uuid é comparado byte a byte, então valores gerados em sequência caem
+ * nas últimas páginas dos índices em vez de se espalharem pela árvore.
+ * PostgreSQL compares uuid byte by byte, so sequentially generated values land on the rightmost
+ * index pages instead of scattering across the tree.
+ */
+public final class UuidV7 {
+
+    // (timestamp ms << 12) | contador; estouro do contador avança o timestamp / counter overflow advances the timestamp
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long value;
+        long last;
+        do {
+            last = LAST.get();
+            value = Math.max(now, last + 1);
+        } while (!LAST.compareAndSet(last, value));
+
+        long timestampMillis = value >>> 12;
+        long counter = value & 0xFFFL;
+        long msb = (timestampMillis << 16) | 0x7000L | counter;
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
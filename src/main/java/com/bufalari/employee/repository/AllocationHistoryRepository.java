@@ -2,8 +2,12 @@ package com.bufalari.employee.repository;
 
 import com.bufalari.employee.entity.AllocationHistoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID; // <<<--- IMPORT UUID
 
@@ -20,4 +24,41 @@ public interface AllocationHistoryRepository extends JpaRepository<AllocationHis
      * Spring Data JPA infere a query a partir do nome do método e do campo 'employee.id'.
      */
     List<AllocationHistoryEntity> findByEmployeeId(UUID employeeId); // <<<--- Changed to UUID
-}
\ No newline at end of file
+
+    /**
+     * Exclui em um único comando todos os registros de um funcionário (sem carregar entidades).
+     * Deletes all records of an employee in a single statement (no entity loading).
+     * @return Number of deleted rows. / Número de linhas excluídas.
+     */
+    @Modifying
+    @Query("DELETE FROM AllocationHistoryEntity a WHERE a.employee.id = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") UUID employeeId);
+
+    /**
+     * Verifica se já existe alocação do funcionário no projeto cujo período se sobrepõe ao informado.
+     * A expressão daterange é a mesma da constraint de exclusão, que serve de índice GiST para a busca.
+     * Checks whether the employee already has an allocation on the project overlapping the given period.
+     * The daterange expression matches the exclusion constraint, whose GiST index serves the lookup.
+     * @param endDate End date (inclusive), or null for an open-ended period. / Data final (inclusiva), ou null se em aberto.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM allocation_history a " +
+                   "WHERE a.employee_id = :employeeId AND a.project_id = CAST(:projectId AS bigint) " + // bigint explícito: btree_gist não tem operador int8 = int4 / explicit bigint: btree_gist has no int8 = int4 operator
+                   "AND daterange(a.start_date, a.end_date, '[]') && daterange(CAST(:startDate AS date), CAST(:endDate AS date), '[]'))",
+           nativeQuery = true)
+    boolean existsOverlapping(@Param("employeeId") UUID employeeId,
+                              @Param("projectId") Long projectId,
+                              @Param("startDate") LocalDate startDate,
+                              @Param("endDate") LocalDate endDate);
+
+    /**
+     * Funcionários alocados a um projeto em uma data (consulta pontual servida pelo índice GiST de período).
+     * Employees allocated to a project on a date (point query served by the period GiST index).
+     */
+    @Query(value = "SELECT a.id AS allocationId, a.employee_id AS employeeId, e.first_name AS firstName, e.last_name AS lastName, " +
+                   "a.start_date AS startDate, a.end_date AS endDate " +
+                   "FROM allocation_history a JOIN employees e ON e.id = a.employee_id " +
+                   "WHERE a.project_id = CAST(:projectId AS bigint) AND daterange(a.start_date, a.end_date, '[]') @> CAST(:date AS date) " +
+                   "ORDER BY e.last_name, e.first_name, e.id",
+           nativeQuery = true)
+    List<ProjectStaffView> findStaffOnDate(@Param("projectId") Long projectId, @Param("date") LocalDate date);
+}
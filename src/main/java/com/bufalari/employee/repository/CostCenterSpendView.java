@@ -0,0 +1,21 @@
+package com.bufalari.employee.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção de uma linha agregada de gastos por centro de custo e período (sem hidratar entidades).
+ * Projection of one aggregated spend row per cost center and period (no entity hydration).
+ */
+public interface CostCenterSpendView {
+
+    Long getCostCenterId();
+
+    LocalDate getPeriod();
+
+    BigDecimal getTotalHours();
+
+    BigDecimal getTotalCost();
+
+    Long getEntryCount();
+}
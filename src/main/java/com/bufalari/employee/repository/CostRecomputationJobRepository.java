@@ -0,0 +1,15 @@
+package com.bufalari.employee.repository;
+
+import com.bufalari.employee.entity.CostRecomputationJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repositório dos jobs de recálculo de custos.
+ * Repository for cost recomputation jobs.
+ */
+@Repository
+public interface CostRecomputationJobRepository extends JpaRepository<CostRecomputationJobEntity, UUID> {
+}
@@ -0,0 +1,101 @@
+package com.bufalari.employee.repository;
+
+import com.bufalari.employee.entity.DepartmentClosureEntity;
+import com.bufalari.employee.entity.DepartmentClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Manutenção e leitura da closure table de departamentos (SQL nativo, sem carregar entidades).
+ * Maintenance and reads of the department closure table (native SQL, no entity loading).
+ */
+@Repository
+public interface DepartmentClosureRepository extends JpaRepository<DepartmentClosureEntity, DepartmentClosureId> {
+
+    /**
+     * Serializa as mudanças de estrutura da hierarquia até o fim da transação (advisory lock do PostgreSQL).
+     * Movimentos concorrentes poderiam, cada um, passar na verificação de ciclo e juntos criar um ciclo.
+     * Serializes hierarchy structure changes until the end of the transaction (PostgreSQL advisory lock).
+     * Concurrent moves could each pass the cycle check and together create a cycle.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('department_closure'))", nativeQuery = true)
+    Integer lockHierarchy();
+
+    /**
+     * Indica se {@code descendantId} está na subárvore de {@code ancestorId} (inclui o próprio nó).
+     * Tells whether {@code descendantId} is in the subtree of {@code ancestorId} (includes the node itself).
+     */
+    boolean existsById_AncestorIdAndId_DescendantId(UUID ancestorId, UUID descendantId);
+
+    /**
+     * Linha do próprio nó (profundidade 0) de um departamento novo.
+     * Self row (depth 0) of a new department.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO department_closure (ancestor_id, descendant_id, depth) VALUES (:id, :id, 0)", nativeQuery = true)
+    int insertSelf(@Param("id") UUID id);
+
+    /**
+     * Liga a subárvore de {@code id} abaixo de {@code parentId}: todo ancestral do pai vira ancestral de todo
+     * nó da subárvore. Serve tanto para um nó novo (subárvore = só ele) quanto para um movimento.
+     * Attaches the subtree of {@code id} under {@code parentId}: every ancestor of the parent becomes an
+     * ancestor of every node in the subtree. Works both for a new node (subtree = itself) and for a move.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO department_closure (ancestor_id, descendant_id, depth) " +
+                   "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+                   "FROM department_closure p JOIN department_closure s ON s.ancestor_id = :id " +
+                   "WHERE p.descendant_id = :parentId", nativeQuery = true)
+    int attachSubtree(@Param("id") UUID id, @Param("parentId") UUID parentId);
+
+    /**
+     * Desliga a subárvore de {@code id} dos seus ancestrais atuais, mantendo as ligações internas da subárvore.
+     * Detaches the subtree of {@code id} from its current ancestors, keeping the links inside the subtree.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM department_closure " +
+                   "WHERE descendant_id IN (SELECT descendant_id FROM department_closure WHERE ancestor_id = :id) " +
+                   "AND ancestor_id IN (SELECT ancestor_id FROM department_closure WHERE descendant_id = :id AND ancestor_id <> :id)",
+           nativeQuery = true)
+    int detachSubtree(@Param("id") UUID id);
+
+    /**
+     * Remove as linhas de um departamento folha (ele como descendente).
+     * Removes the rows of a leaf department (it as the descendant).
+     */
+    @Modifying
+    @Query(value = "DELETE FROM department_closure WHERE descendant_id = :id", nativeQuery = true)
+    int deleteLeaf(@Param("id") UUID id);
+
+    /**
+     * Custo das horas trabalhadas na subárvore de um departamento, por departamento, em uma única agregação:
+     * closure (prefixo da PK) -> horas (idx_wh_department_work_date). Cada lançamento conta no departamento
+     * gravado nele (work_hours.department_id), não no departamento atual do funcionário.
+     * Inclui os departamentos sem horas no período. A última linha é sempre o total da subárvore (departmentId
+     * nulo), com funcionários distintos contados uma só vez; se o departamento não existir, só ela é retornada.
+     * Work hours cost in a department subtree, per department, in a single aggregation:
+     * closure (PK prefix) -> hours (idx_wh_department_work_date). Each entry counts towards the department
+     * stamped on it (work_hours.department_id), not the employee's current department.
+     * Includes the departments with no hours in the range. The last row is always the subtree total (null
+     * departmentId), counting each distinct employee once; if the department does not exist, it is the only row.
+     */
+    @Query(value = "SELECT d.id AS departmentId, d.name AS departmentName, c.depth AS depth, " +
+                   "COALESCE(SUM(wh.hours_worked), 0) AS totalHours, COALESCE(SUM(wh.calculated_cost), 0) AS totalCost, " +
+                   "COUNT(wh.id) AS entryCount, COUNT(DISTINCT wh.employee_id) AS employeeCount " +
+                   "FROM department_closure c " +
+                   "JOIN departments d ON d.id = c.descendant_id " +
+                   "LEFT JOIN work_hours wh ON wh.department_id = c.descendant_id AND wh.work_date BETWEEN :startDate AND :endDate " +
+                   "WHERE c.ancestor_id = :departmentId " +
+                   "GROUP BY GROUPING SETS ((d.id, d.name, c.depth), ()) " +
+                   "ORDER BY c.depth NULLS LAST, d.name", nativeQuery = true)
+    List<DepartmentCostView> sumCostBySubtree(@Param("departmentId") UUID departmentId,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+}
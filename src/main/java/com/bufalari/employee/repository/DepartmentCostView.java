@@ -0,0 +1,27 @@
+package com.bufalari.employee.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projeção do custo próprio (horas lançadas em seu nome) de um departamento de uma subárvore, ou do total
+ * da subárvore quando departmentId é nulo.
+ * Projection of the own cost (hours recorded against it) of one department in a subtree, or of the subtree
+ * total when departmentId is null.
+ */
+public interface DepartmentCostView {
+
+    UUID getDepartmentId();
+
+    String getDepartmentName();
+
+    Integer getDepth();
+
+    BigDecimal getTotalHours();
+
+    BigDecimal getTotalCost();
+
+    Long getEntryCount();
+
+    Long getEmployeeCount();
+}
@@ -0,0 +1,29 @@
+package com.bufalari.employee.repository;
+
+import com.bufalari.employee.entity.DepartmentEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório de departamentos e subdepartamentos.
+ * Repository for departments and sub-departments.
+ */
+@Repository
+public interface DepartmentRepository extends JpaRepository<DepartmentEntity, UUID> {
+
+    /**
+     * Departamentos raiz, por nome. / Root departments, by name.
+     */
+    List<DepartmentEntity> findByParentIsNullOrderByNameAsc();
+
+    /**
+     * Filhos diretos dos departamentos informados, por nome. / Direct children of the given departments, by name.
+     */
+    List<DepartmentEntity> findByParent_IdInOrderByNameAsc(Collection<UUID> parentIds);
+
+    boolean existsByParent_Id(UUID parentId);
+}
@@ -0,0 +1,59 @@
+package com.bufalari.employee.repository;
+
+import com.bufalari.employee.entity.EmployeeRateHistoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório do histórico de valor-hora dos funcionários.
+ * Repository for the employees' hourly rate history.
+ */
+@Repository
+public interface EmployeeRateHistoryRepository extends JpaRepository<EmployeeRateHistoryEntity, UUID> {
+
+    List<EmployeeRateHistoryEntity> findByEmployeeIdOrderByEffectiveFromDesc(UUID employeeId);
+
+    /**
+     * Históricos de vários funcionários em uma consulta (ingestão em lote), do mais recente para o mais antigo.
+     * Histories of several employees in one query (bulk ingestion), most recent first.
+     */
+    List<EmployeeRateHistoryEntity> findByEmployeeIdInOrderByEffectiveFromDesc(Collection<UUID> employeeIds);
+
+    boolean existsByEmployeeIdAndEffectiveFrom(UUID employeeId, LocalDate effectiveFrom);
+
+    /**
+     * Vigência seguinte à data informada (limite do intervalo afetado por uma nova vigência).
+     * Next effective date after the given one (end of the range affected by a new rate).
+     */
+    Optional<EmployeeRateHistoryEntity> findFirstByEmployeeIdAndEffectiveFromAfterOrderByEffectiveFromAsc(UUID employeeId, LocalDate effectiveFrom);
+
+    /**
+     * Vigência em vigor na data informada.
+     * Rate in effect on the given date.
+     */
+    Optional<EmployeeRateHistoryEntity> findFirstByEmployeeIdAndEffectiveFromLessThanEqualOrderByEffectiveFromDesc(UUID employeeId, LocalDate date);
+
+    /**
+     * Vigência mais antiga; vale para datas anteriores a todo o histórico.
+     * Oldest rate; it applies to dates before the whole history.
+     */
+    Optional<EmployeeRateHistoryEntity> findFirstByEmployeeIdOrderByEffectiveFromAsc(UUID employeeId);
+
+    /**
+     * Exclui em um único comando todo o histórico de um funcionário.
+     * Deletes the whole history of an employee in a single statement.
+     * @return Number of deleted rows. / Número de linhas excluídas.
+     */
+    @Modifying
+    @Query("DELETE FROM EmployeeRateHistoryEntity r WHERE r.employee.id = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") UUID employeeId);
+}
@@ -1,11 +1,22 @@
 package com.bufalari.employee.repository;
 
 import com.bufalari.employee.entity.EmployeeEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional; // Importar Optional
 import java.util.UUID; // <<<--- IMPORT UUID
+import java.util.stream.Stream;
 
 /**
  * Repositório para operações com EmployeeEntity (usando UUID).
@@ -26,6 +37,13 @@ public interface EmployeeRepository extends JpaRepository<EmployeeEntity, UUID>
      */
     Optional<EmployeeEntity> findByUserId(UUID userId); // <<<--- Exemplo com UUID
 
+    /**
+     * Busca os funcionários ligados a qualquer um dos userIds (uma consulta IN, via idx_employee_user_id).
+     * Finds the employees linked to any of the userIds (one IN query, through idx_employee_user_id).
+     * @param userIds The auth user UUIDs. / Os UUIDs de usuário de autenticação.
+     */
+    List<EmployeeEntity> findByUserIdIn(Collection<UUID> userIds);
+
     /**
      * Verifica se existe um funcionário com o userId fornecido.
      * Checks if an employee exists with the given userId.
@@ -34,6 +52,12 @@ public interface EmployeeRepository extends JpaRepository<EmployeeEntity, UUID>
      */
      boolean existsByUserId(UUID userId); // <<<--- Exemplo com UUID
 
+    /**
+     * Verifica se algum funcionário está ligado ao departamento (via idx_employee_department_id).
+     * Checks whether any employee is linked to the department (through idx_employee_department_id).
+     */
+    boolean existsByDepartmentId(UUID departmentId);
+
     /**
      * Busca um funcionário pelo número de identificação social (ex: SIN, CPF).
      * Finds an employee by their social insurance number (e.g., SIN, CPF).
@@ -42,4 +66,138 @@ public interface EmployeeRepository extends JpaRepository<EmployeeEntity, UUID>
      */
      Optional<EmployeeEntity> findBySocialInsuranceNumber(String sin);
 
-}
\ No newline at end of file
+    /**
+     * Primeira página da listagem ordenada por (lastName, firstName, id), usando idx_employee_lastname_firstname.
+     * First page of the listing ordered by (lastName, firstName, id), using idx_employee_lastname_firstname.
+     * Varreduras paginadas não populam o cache L2 (CacheMode.GET), para não expulsar o conjunto quente.
+     * Paged scans do not populate the L2 cache (CacheMode.GET), so they do not evict the hot working set.
+     * @param pageable Only the page size is used (page 0). / Apenas o tamanho da página é usado (página 0).
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    @Query("SELECT e FROM EmployeeEntity e ORDER BY e.lastName, e.firstName, e.id")
+    List<EmployeeEntity> findKeysetFirstPage(Pageable pageable);
+
+    /**
+     * Próxima página (keyset) após a chave (lastName, firstName, id) da última linha retornada.
+     * Next (keyset) page after the (lastName, firstName, id) key of the last returned row.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "GET"))
+    @Query("SELECT e FROM EmployeeEntity e " +
+           "WHERE (e.lastName, e.firstName, e.id) > (:lastName, :firstName, :id) " +
+           "ORDER BY e.lastName, e.firstName, e.id")
+    List<EmployeeEntity> findKeysetPageAfter(@Param("lastName") String lastName,
+                                             @Param("firstName") String firstName,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
+
+    /**
+     * Percorre todos os funcionários com um cursor JDBC forward-only (fetch size), sem carregar a tabela em memória.
+     * Deve ser consumido dentro de uma transação e fechado após o uso.
+     * Walks all employees through a forward-only JDBC cursor (fetch size), without loading the table in memory.
+     * Must be consumed inside a transaction and closed after use.
+     * CacheMode.IGNORE: a exportação não lê nem grava no cache L2 (não expulsa o conjunto quente).
+     * CacheMode.IGNORE: the export neither reads nor writes the L2 cache (does not evict the hot working set).
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT e FROM EmployeeEntity e ORDER BY e.lastName, e.firstName, e.id")
+    Stream<EmployeeEntity> streamAllForExport();
+
+    /**
+     * Bloqueia a linha do funcionário (FOR UPDATE) antes da exclusão em massa.
+     * FOR UPDATE conflita com o FOR KEY SHARE das inserções de filhos, então nenhuma hora/alocação
+     * nova pode referenciar o funcionário enquanto ele é excluído.
+     * Locks the employee row (FOR UPDATE) before the bulk delete.
+     * FOR UPDATE conflicts with the FOR KEY SHARE taken by child inserts, so no new work hours or
+     * allocation can reference the employee while it is being deleted.
+     * @return The ID when the employee exists. / O ID, se o funcionário existir.
+     */
+    @Query(value = "SELECT id FROM employees WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<UUID> lockForDelete(@Param("id") UUID id);
+
+    /**
+     * Carrega o funcionário com bloqueio pessimista (FOR NO KEY UPDATE no PostgreSQL), serializando
+     * novas alocações e mudanças de valor-hora do mesmo funcionário.
+     * Não bloqueia inserções de horas trabalhadas, que só pedem FOR KEY SHARE.
+     * Loads the employee with a pessimistic lock (FOR NO KEY UPDATE on PostgreSQL), serializing new
+     * allocations and hourly rate changes of the same employee.
+     * Does not block work hours inserts, which only take FOR KEY SHARE.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM EmployeeEntity e WHERE e.id = :id")
+    Optional<EmployeeEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Busca por prefixo (typeahead): sobrenome, nome, "nome sobrenome" e cidade, mais o SIN exato.
+     * Cada ramo percorre um índice btree COLLATE "C" em um intervalo [prefixo, prefixo + U+10FFFF) já na ordem
+     * final e para após :limit linhas, então o custo não depende de quantas linhas casam; o intervalo (em vez de
+     * LIKE) continua usando o índice em planos genéricos. Passar :sin nulo desativa o ramo do SIN.
+     * Prefix (typeahead) search: last name, first name, "first last" and city, plus the exact SIN.
+     * Each branch walks a COLLATE "C" btree index over a [prefix, prefix + U+10FFFF) range already in final
+     * order and stops after :limit rows, so the cost does not depend on how many rows match; the range (instead
+     * of LIKE) keeps using the index under generic plans. Passing a null :sin disables the SIN branch.
+     * @param from Lower-cased term (range start). / Termo em minúsculas (início do intervalo).
+     * @param to Term followed by U+10FFFF (range end, exclusive). / Termo seguido de U+10FFFF (fim, exclusivo).
+     * @param firstFrom First word of a two-word term (range start). / Primeira palavra de um termo com duas palavras.
+     * @param restFrom Remaining words ("" for single-word terms). / Demais palavras ("" para termos de uma palavra).
+     */
+    @Query(value = "SELECT m.id AS id, m.first_name AS firstName, m.last_name AS lastName, m.address_city AS city, " +
+                   "m.employment_type AS employmentType, m.score AS score FROM (" +
+                   " SELECT DISTINCT ON (c.id) c.* FROM (" +
+                   "  (SELECT e.id, e.first_name, e.last_name, e.address_city, e.employment_type, 4.0 AS score " +
+                   "   FROM employees e WHERE e.social_insurance_number = CAST(:sin AS varchar))" +
+                   "  UNION ALL" +
+                   "  (SELECT e.id, e.first_name, e.last_name, e.address_city, e.employment_type, 3.0 FROM employees e " +
+                   "   WHERE CAST(:restFrom AS text) <> '' " +
+                   "   AND lower(e.first_name) COLLATE \"C\" >= :firstFrom AND lower(e.first_name) COLLATE \"C\" < :firstTo " +
+                   "   AND lower(e.last_name) COLLATE \"C\" >= :restFrom AND lower(e.last_name) COLLATE \"C\" < :restTo " +
+                   "   ORDER BY lower(e.first_name) COLLATE \"C\", lower(e.last_name) COLLATE \"C\", e.id LIMIT :limit)" +
+                   "  UNION ALL" +
+                   "  (SELECT e.id, e.first_name, e.last_name, e.address_city, e.employment_type, 2.0 FROM employees e " +
+                   "   WHERE lower(e.last_name) COLLATE \"C\" >= :from AND lower(e.last_name) COLLATE \"C\" < :to " +
+                   "   ORDER BY lower(e.last_name) COLLATE \"C\", lower(e.first_name) COLLATE \"C\", e.id LIMIT :limit)" +
+                   "  UNION ALL" +
+                   "  (SELECT e.id, e.first_name, e.last_name, e.address_city, e.employment_type, 2.0 FROM employees e " +
+                   "   WHERE lower(e.first_name) COLLATE \"C\" >= :from AND lower(e.first_name) COLLATE \"C\" < :to " +
+                   "   ORDER BY lower(e.first_name) COLLATE \"C\", lower(e.last_name) COLLATE \"C\", e.id LIMIT :limit)" +
+                   "  UNION ALL" +
+                   "  (SELECT e.id, e.first_name, e.last_name, e.address_city, e.employment_type, 1.0 FROM employees e " +
+                   "   WHERE lower(e.address_city) COLLATE \"C\" >= :from AND lower(e.address_city) COLLATE \"C\" < :to " +
+                   "   ORDER BY lower(e.address_city) COLLATE \"C\", lower(e.last_name) COLLATE \"C\", " +
+                   "   lower(e.first_name) COLLATE \"C\", e.id LIMIT :limit)" +
+                   " ) c ORDER BY c.id, c.score DESC" +
+                   ") m ORDER BY m.score DESC, m.last_name, m.first_name, m.id LIMIT :limit",
+           nativeQuery = true)
+    List<EmployeeSearchView> searchByPrefix(@Param("from") String from, @Param("to") String to,
+                                            @Param("firstFrom") String firstFrom, @Param("firstTo") String firstTo,
+                                            @Param("restFrom") String restFrom, @Param("restTo") String restTo,
+                                            @Param("sin") String sin, @Param("limit") int limit);
+
+    /**
+     * Busca tolerante a erros de digitação por similaridade de palavra (pg_trgm, índice GIN), usada quando a busca
+     * por prefixo não preenche o limite. Só os primeiros :pool candidatos do bitmap são ranqueados, o que limita o
+     * custo para termos com trigramas muito comuns. Exige pg_trgm ({@link #isTrigramExtensionInstalled}).
+     * Typo-tolerant search by word similarity (pg_trgm, GIN index), used when the prefix search does not fill
+     * the limit. Only the first :pool candidates from the bitmap are ranked, which bounds the cost for terms with
+     * very common trigrams. Requires pg_trgm ({@link #isTrigramExtensionInstalled}).
+     */
+    @Query(value = "SELECT c.id AS id, c.first_name AS firstName, c.last_name AS lastName, c.address_city AS city, " +
+                   "c.employment_type AS employmentType, " +
+                   "word_similarity(:term, lower(c.first_name || ' ' || c.last_name)) AS score FROM (" +
+                   " SELECT e.id, e.first_name, e.last_name, e.address_city, e.employment_type FROM employees e " +
+                   " WHERE :term <% lower(e.first_name || ' ' || e.last_name) LIMIT :pool" +
+                   ") c ORDER BY score DESC, c.last_name, c.first_name, c.id LIMIT :limit",
+           nativeQuery = true)
+    List<EmployeeSearchView> searchSimilar(@Param("term") String term, @Param("pool") int pool, @Param("limit") int limit);
+
+    /**
+     * Indica se a extensão pg_trgm (operador {@code <%} de {@link #searchSimilar}) está instalada.
+     * Tells whether the pg_trgm extension (the {@code <%} operator of {@link #searchSimilar}) is installed.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')", nativeQuery = true)
+    boolean isTrigramExtensionInstalled();
+}
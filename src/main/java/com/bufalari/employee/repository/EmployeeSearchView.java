@@ -0,0 +1,22 @@
+package com.bufalari.employee.repository;
+
+import java.util.UUID;
+
+/**
+ * Projeção enxuta de um funcionário encontrado pela busca (typeahead), com a pontuação de relevância.
+ * Slim projection of an employee found by the (typeahead) search, with its relevance score.
+ */
+public interface EmployeeSearchView {
+
+    UUID getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getCity();
+
+    String getEmploymentType();
+
+    Double getScore();
+}
@@ -0,0 +1,14 @@
+package com.bufalari.employee.repository;
+
+/**
+ * Projeção da "versão" da tabela de gerentes/responsáveis (quantidade e soma dos xmin das linhas), usada para
+ * detectar mudanças feitas por outras instâncias ou direto no banco.
+ * Projection of the "version" of the managers/responsibles table (count and sum of the rows' xmin), used to
+ * detect changes made by other instances or directly in the database.
+ */
+public interface ManagerDirectoryVersion {
+
+    long getEntryCount();
+
+    long getRowVersionSum();
+}
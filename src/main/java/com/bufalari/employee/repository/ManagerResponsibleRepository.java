@@ -0,0 +1,38 @@
+package com.bufalari.employee.repository;
+
+import com.bufalari.employee.entity.ManagerResponsibleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repositório de gerentes/responsáveis. As leituras da API vêm do ManagerDirectory (em memória);
+ * este repositório só é usado nas escritas e na reconstrução do snapshot.
+ * Repository of managers/responsibles. API reads come from ManagerDirectory (in memory);
+ * this repository is only used for writes and to rebuild the snapshot.
+ */
+@Repository
+public interface ManagerResponsibleRepository extends JpaRepository<ManagerResponsibleEntity, UUID> {
+
+    boolean existsByCode(String code);
+
+    boolean existsByCodeAndIdNot(String code, UUID id);
+
+    boolean existsByEmailIgnoreCase(String email);
+
+    boolean existsByEmailIgnoreCaseAndIdNot(String email, UUID id);
+
+    /**
+     * Quantidade e soma dos xmin da tabela. Toda versão nova de linha (INSERT ou UPDATE, inclusive SQL direto
+     * que não mexe em last_modified_at) ganha o xmin da sua transação, e um DELETE tira a parcela; o COUNT já
+     * percorre a tabela, então a soma sai de graça.
+     * Count and sum of the table's xmin. Every new row version (INSERT or UPDATE, including direct SQL that
+     * leaves last_modified_at alone) gets its transaction's xmin, and a DELETE removes its share; COUNT already
+     * scans the table, so the sum comes for free.
+     */
+    @Query(value = "SELECT COUNT(*) AS entryCount, COALESCE(SUM(xmin::text::bigint), 0)::bigint AS rowVersionSum " +
+                   "FROM managers_responsibles", nativeQuery = true)
+    ManagerDirectoryVersion findDirectoryVersion();
+}
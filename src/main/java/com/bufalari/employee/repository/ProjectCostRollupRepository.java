@@ -0,0 +1,48 @@
+package com.bufalari.employee.repository;
+
+import com.bufalari.employee.dto.EmployeeCostDTO;
+import com.bufalari.employee.dto.MonthlyCostDTO;
+import com.bufalari.employee.entity.ProjectCostRollupEntity;
+import com.bufalari.employee.entity.ProjectCostRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório de leitura do rollup de custos por projeto (agregações feitas no banco).
+ * Read repository for the per-project cost rollup (aggregations run in the database).
+ */
+@Repository
+public interface ProjectCostRollupRepository extends JpaRepository<ProjectCostRollupEntity, ProjectCostRollupId> {
+
+    /**
+     * Totais do projeto por funcionário, do maior custo para o menor.
+     * Project totals per employee, highest cost first.
+     */
+    @Query("SELECT new com.bufalari.employee.dto.EmployeeCostDTO(r.id.employeeId, SUM(r.totalHours), SUM(r.totalCost), SUM(r.entryCount)) " +
+           "FROM ProjectCostRollupEntity r WHERE r.id.projectId = :projectId " +
+           "GROUP BY r.id.employeeId ORDER BY SUM(r.totalCost) DESC")
+    List<EmployeeCostDTO> sumByEmployee(@Param("projectId") Long projectId);
+
+    /**
+     * Totais do projeto por mês, em ordem cronológica.
+     * Project totals per month, in chronological order.
+     */
+    @Query("SELECT new com.bufalari.employee.dto.MonthlyCostDTO(r.id.workMonth, SUM(r.totalHours), SUM(r.totalCost), SUM(r.entryCount)) " +
+           "FROM ProjectCostRollupEntity r WHERE r.id.projectId = :projectId " +
+           "GROUP BY r.id.workMonth ORDER BY r.id.workMonth")
+    List<MonthlyCostDTO> sumByMonth(@Param("projectId") Long projectId);
+
+    /**
+     * Remove as linhas de rollup de um funcionário (usado ao excluir o funcionário).
+     * Removes the rollup rows of an employee (used when the employee is deleted).
+     */
+    @Modifying
+    @Query("DELETE FROM ProjectCostRollupEntity r WHERE r.id.employeeId = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") UUID employeeId);
+}
@@ -0,0 +1,23 @@
+package com.bufalari.employee.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projeção de um funcionário alocado a um projeto (alocação + nome).
+ * Projection of an employee allocated to a project (allocation + name).
+ */
+public interface ProjectStaffView {
+
+    UUID getAllocationId();
+
+    UUID getEmployeeId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
@@ -0,0 +1,14 @@
+package com.bufalari.employee.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção da "versão" de um intervalo de horas trabalhadas (quantidade e última modificação), usada no ETag.
+ * Projection of the "version" of a work hours range (count and last modification), used for the ETag.
+ */
+public interface WorkHoursRangeVersion {
+
+    long getEntryCount();
+
+    LocalDateTime getLastModifiedAt();
+}
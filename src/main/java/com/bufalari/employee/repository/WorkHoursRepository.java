@@ -1,7 +1,12 @@
 package com.bufalari.employee.repository;
 
+import com.bufalari.employee.dto.WorkHoursEntryDTO;
 import com.bufalari.employee.entity.WorkHoursEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate; // Importar LocalDate
@@ -52,4 +57,94 @@ public interface WorkHoursRepository extends JpaRepository<WorkHoursEntity, UUID
      * @return List of work hours entities.
      */
     List<WorkHoursEntity> findByCostCenterId(Long costCenterId);
-}
\ No newline at end of file
+
+    /**
+     * Indica se há horas lançadas em nome do departamento.
+     * Tells whether any work hours were recorded against the department.
+     * @param departmentId The UUID of the department.
+     * @return true if at least one record references it.
+     */
+    boolean existsByDepartmentId(UUID departmentId);
+
+    /**
+     * Soma horas e custos de um centro de custo por período (dia/semana/mês) em um intervalo de datas.
+     * Sums hours and cost of one cost center per period (day/week/month) within a date range.
+     * @param costCenterId The ID of the cost center.
+     * @param truncUnit date_trunc unit ("day", "week" or "month").
+     * @param startDate The start date (inclusive).
+     * @param endDate The end date (inclusive).
+     * @return One row per period, in chronological order.
+     */
+    @Query(value = "SELECT wh.cost_center_id AS costCenterId, CAST(date_trunc(:truncUnit, wh.work_date) AS date) AS period, " +
+                   "SUM(wh.hours_worked) AS totalHours, SUM(COALESCE(wh.calculated_cost, 0)) AS totalCost, COUNT(*) AS entryCount " +
+                   "FROM work_hours wh " +
+                   "WHERE wh.cost_center_id = :costCenterId AND wh.work_date BETWEEN :startDate AND :endDate " +
+                   "GROUP BY 1, 2 " + // Posicional: o parâmetro de date_trunc é vinculado uma vez por ocorrência / Positional: the date_trunc parameter is bound once per occurrence
+                   "ORDER BY period", nativeQuery = true)
+    List<CostCenterSpendView> sumSpendByCostCenter(@Param("costCenterId") Long costCenterId,
+                                                   @Param("truncUnit") String truncUnit,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
+
+    /**
+     * Soma horas e custos de todos os centros de custo por período em um intervalo de datas.
+     * Sums hours and cost of every cost center per period within a date range.
+     * @return One row per cost center and period, ordered by cost center then period.
+     */
+    @Query(value = "SELECT wh.cost_center_id AS costCenterId, CAST(date_trunc(:truncUnit, wh.work_date) AS date) AS period, " +
+                   "SUM(wh.hours_worked) AS totalHours, SUM(COALESCE(wh.calculated_cost, 0)) AS totalCost, COUNT(*) AS entryCount " +
+                   "FROM work_hours wh " +
+                   "WHERE wh.cost_center_id IS NOT NULL AND wh.work_date BETWEEN :startDate AND :endDate " +
+                   "GROUP BY 1, 2 " +
+                   "ORDER BY costCenterId, period", nativeQuery = true)
+    List<CostCenterSpendView> sumSpendAllCostCenters(@Param("truncUnit") String truncUnit,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    /**
+     * Primeira página (keyset) das horas de um funcionário em um intervalo, ordenada por (workDate, id).
+     * First keyset page of an employee's work hours within a range, ordered by (workDate, id).
+     * @param pageable Only the page size is used (always page 0). / Apenas o tamanho da página é usado.
+     */
+    @Query("SELECT new com.bufalari.employee.dto.WorkHoursEntryDTO(w.id, w.workDate, w.hoursWorked, w.projectId, w.costCenterId, w.calculatedCost, w.description) " +
+           "FROM WorkHoursEntity w WHERE w.employee.id = :employeeId AND w.workDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY w.workDate, w.id")
+    List<WorkHoursEntryDTO> findEntriesFirstPage(@Param("employeeId") UUID employeeId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate,
+                                                 Pageable pageable);
+
+    /**
+     * Página seguinte (keyset): registros estritamente após (lastWorkDate, lastId).
+     * Next keyset page: records strictly after (lastWorkDate, lastId).
+     */
+    @Query("SELECT new com.bufalari.employee.dto.WorkHoursEntryDTO(w.id, w.workDate, w.hoursWorked, w.projectId, w.costCenterId, w.calculatedCost, w.description) " +
+           "FROM WorkHoursEntity w WHERE w.employee.id = :employeeId AND w.workDate BETWEEN :startDate AND :endDate " +
+           "AND (w.workDate, w.id) > (:lastWorkDate, :lastId) " +
+           "ORDER BY w.workDate, w.id")
+    List<WorkHoursEntryDTO> findEntriesPageAfter(@Param("employeeId") UUID employeeId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate,
+                                                 @Param("lastWorkDate") LocalDate lastWorkDate,
+                                                 @Param("lastId") UUID lastId,
+                                                 Pageable pageable);
+
+    /**
+     * Quantidade e última modificação das horas de um funcionário em um intervalo (base do ETag).
+     * Count and last modification of an employee's work hours within a range (ETag basis).
+     */
+    @Query("SELECT COUNT(w) AS entryCount, MAX(w.lastModifiedAt) AS lastModifiedAt " +
+           "FROM WorkHoursEntity w WHERE w.employee.id = :employeeId AND w.workDate BETWEEN :startDate AND :endDate")
+    WorkHoursRangeVersion findRangeVersion(@Param("employeeId") UUID employeeId,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    /**
+     * Exclui em um único comando todos os registros de um funcionário (sem carregar entidades).
+     * Deletes all records of an employee in a single statement (no entity loading).
+     * @return Number of deleted rows. / Número de linhas excluídas.
+     */
+    @Modifying
+    @Query("DELETE FROM WorkHoursEntity w WHERE w.employee.id = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") UUID employeeId);
+}
@@ -1,8 +1,10 @@
 package com.bufalari.employee.security;
 
-import com.bufalari.employee.client.AuthServiceClient;
+import com.bufalari.employee.client.AuthServiceGateway;
 import com.bufalari.employee.dto.UserDetailsDTO;
 import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +16,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Service("employeeUserDetailsService") // Nome explícito do bean
@@ -21,11 +24,11 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     private static final Logger log = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
-    private final AuthServiceClient authServiceClient;
+    private final AuthServiceGateway authServiceGateway;
 
     @Autowired
-    public CustomUserDetailsService(AuthServiceClient authServiceClient) {
-        this.authServiceClient = authServiceClient;
+    public CustomUserDetailsService(AuthServiceGateway authServiceGateway) {
+        this.authServiceGateway = authServiceGateway;
     }
 
     @Override
@@ -33,7 +36,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         log.debug("Attempting to load user details for username: {}", username);
         UserDetailsDTO userDetailsDTO;
         try {
-            userDetailsDTO = authServiceClient.getUserByUsername(username);
+            userDetailsDTO = authServiceGateway.getUserByUsername(username); // Consultas simultâneas ao mesmo usuário viram uma só chamada
 
             if (userDetailsDTO == null) {
                 log.warn("User details DTO received from AuthServiceClient is null for username: {}", username);
@@ -42,16 +45,27 @@ public class CustomUserDetailsService implements UserDetailsService {
 
             String passwordPlaceholder = ""; 
 
+            List<SimpleGrantedAuthority> authorities = userDetailsDTO.getRoles() != null ?
+                    userDetailsDTO.getRoles().stream()
+                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
+                            .collect(Collectors.toList())
+                    : Collections.emptyList();
+            if (userDetailsDTO.isStale()) {
+                // Último resultado bom: o PrincipalCache não guarda StaleUser / Last good result: PrincipalCache does not store StaleUser
+                return new StaleUser(userDetailsDTO.getUsername(), passwordPlaceholder, authorities);
+            }
+
             log.info("Successfully loaded user details via auth service for username: {}", userDetailsDTO.getUsername());
             return new User(
                     userDetailsDTO.getUsername(),
                     passwordPlaceholder, 
-                    userDetailsDTO.getRoles() != null ?
-                            userDetailsDTO.getRoles().stream()
-                                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
-                                    .collect(Collectors.toList())
-                            : Collections.emptyList()
+                    authorities
             );
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            // Circuito aberto / bulkhead cheio, sem principal anterior: falha rápida, sem stack trace por requisição
+            // Circuit open / bulkhead full, no previous principal: fail fast, no stack trace per request
+            log.warn("Auth service call rejected for username: {} ({})", username, e.getMessage());
+            throw new UsernameNotFoundException("Auth service unavailable for user: " + username, e);
         } catch (FeignException.NotFound e) {
             log.warn("User not found via auth service (Feign 404) for username: {}", username, e);
             throw new UsernameNotFoundException("User not found: " + username, e);
@@ -1,8 +1,11 @@
 package com.bufalari.employee.security;
 
 import com.bufalari.employee.config.JwtUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException; // Importar exceções JWT
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,6 +39,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // Injetar o UserDetailsService específico deste serviço pelo nome do bean
     @Qualifier("employeeUserDetailsService")
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache; // Evita chamar o auth-service a cada requisição
+    private final JwtClaimsAuthoritiesMapper claimsAuthoritiesMapper; // Modo stateless (roles no token)
+    private final MeterRegistry meterRegistry; // Timer security.jwt.validation
 
     /**
      * Processa cada requisição para validar o token JWT.
@@ -63,17 +69,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         log.trace("Extracted JWT from header.");
 
         try {
-            // 3. Extrai o username
-            username = jwtUtil.extractUsername(jwt); // Pode lançar JwtException
+            // 3. Valida o token uma única vez (assinatura + expiração) e extrai o username
+            Claims claims = validateTimed(jwt); // Pode lançar JwtException
+            username = claims.getSubject();
 
             // 4. Se houver username e nenhuma autenticação no contexto
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 log.debug("Attempting to validate JWT for user: {}", username);
-                // 5. Carrega UserDetails (usando o CustomUserDetailsService injetado)
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                // 5. Monta UserDetails das claims (modo stateless) ou do cache/CustomUserDetailsService (fallback)
+                UserDetails userDetails = claimsAuthoritiesMapper.toUserDetails(claims)
+                        .orElseGet(() -> principalCache.get(username, claims.getExpiration(), this.userDetailsService::loadUserByUsername));
 
-                // 6. Valida o token
-                if (jwtUtil.validateToken(jwt, userDetails)) {
+                // 6. Valida as claims já verificadas contra o usuário (sem novo parse)
+                if (jwtUtil.validateToken(claims, userDetails)) {
                     log.debug("JWT is valid for user {}. Setting authentication context.", username);
                     // 7. Cria token de autenticação do Spring Security
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -105,4 +113,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 10. Continua a cadeia de filtros
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Valida o token registrando a duração no timer security.jwt.validation (tag outcome).
+     * Validates the token, recording the duration in the security.jwt.validation timer (outcome tag).
+     */
+    private Claims validateTimed(String jwt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            Claims claims = jwtUtil.validateAndGetClaims(jwt);
+            outcome = "valid";
+            return claims;
+        } catch (ExpiredJwtException e) {
+            outcome = "expired";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("security.jwt.validation")
+                    .description("JWT signature and expiry validation, including claims cache hits")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.bufalari.employee.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Constrói o principal diretamente das claims do JWT (modo stateless), sem consultar o auth-service.
+ * Builds the principal straight from the JWT claims (stateless mode), without calling the auth-service.
+ *
+ * Quando desabilitado, ou quando o token não traz a claim de roles, retorna vazio e o
+ * CustomUserDetailsService continua sendo usado como fallback.
+ * When disabled, or when the token carries no roles claim, it returns empty and the
+ * CustomUserDetailsService is still used as the fallback.
+ */
+public class JwtClaimsAuthoritiesMapper {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final boolean enabled;
+    private final String rolesClaim;
+
+    public JwtClaimsAuthoritiesMapper(boolean enabled, String rolesClaim) {
+        this.enabled = enabled;
+        this.rolesClaim = rolesClaim;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getRolesClaim() {
+        return rolesClaim;
+    }
+
+    /**
+     * Converte as claims verificadas em UserDetails, se o modo stateless estiver ativo.
+     * Converts the verified claims into UserDetails when the stateless mode is enabled.
+     * @param claims Verified token claims. / Claims verificadas do token.
+     * @return The principal, or empty to fall back to the auth-service lookup. / O principal, ou vazio para usar o auth-service.
+     */
+    public Optional<UserDetails> toUserDetails(Claims claims) {
+        if (!enabled || claims.getSubject() == null || !claims.containsKey(rolesClaim)) {
+            return Optional.empty();
+        }
+        List<GrantedAuthority> authorities = toAuthorities(claims.get(rolesClaim));
+        return Optional.of(new User(claims.getSubject(), "", authorities));
+    }
+
+    private List<GrantedAuthority> toAuthorities(Object rolesValue) {
+        Collection<?> roles;
+        if (rolesValue instanceof Collection<?> collection) {
+            roles = collection;
+        } else if (rolesValue instanceof String text) {
+            roles = Arrays.asList(text.split("[,\\s]+")); // "ADMIN,MANAGER" ou "ADMIN MANAGER"
+        } else {
+            return List.of();
+        }
+        return roles.stream()
+                .filter(role -> role != null && !role.toString().isBlank())
+                .map(role -> role.toString().trim().toUpperCase())
+                .map(role -> role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
@@ -0,0 +1,137 @@
+package com.bufalari.employee.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * Cache limitado (tamanho + TTL) dos UserDetails resolvidos via auth-service.
+ * Bounded (size + TTL) cache of the UserDetails resolved through the auth-service.
+ *
+ * A chave é o username mais a expiração do token; uma entrada nunca vive além do token que a originou.
+ * The key is the username plus the token expiry; an entry never outlives the token that produced it.
+ *
+ * Principals antigos ({@link StaleUser}, auth-service indisponível) não são guardados: o AuthServiceGateway já
+ * limita a idade deles, e guardá-los somaria este TTL à janela.
+ * Stale principals ({@link StaleUser}, auth-service unavailable) are not stored: AuthServiceGateway already caps
+ * their age, and storing them would add this TTL to the window.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(PrincipalCache.class);
+
+    private record Key(String username, long tokenExpiresAtMillis) {}
+
+    private final Cache<Key, UserDetails> cache;
+    private final long ttlNanos;
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl:PT5M}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Key, UserDetails>() {
+                    @Override
+                    public long expireAfterCreate(Key key, UserDetails value, long currentTime) {
+                        return expiryFor(key);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, UserDetails value, long currentTime, long currentDuration) {
+                        return expiryFor(key);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, UserDetails value, long currentTime, long currentDuration) {
+                        return currentDuration; // Leitura não renova o TTL / Reads do not extend the TTL
+                    }
+                })
+                .recordStats()
+                .build();
+        log.info("Principal cache initialized (maxSize={}, ttl={}).", maxSize, ttl);
+    }
+
+    /**
+     * Retorna o principal em cache ou o carrega com o loader informado.
+     * Returns the cached principal or loads it with the given loader.
+     *
+     * O loader roda fora do compute() do mapa: o compute segura um lock synchronized, e I/O bloqueante
+     * ali prende (pin) a carrier thread quando as requisições rodam em virtual threads.
+     * The loader runs outside the map's compute(): compute holds a synchronized lock, and blocking I/O
+     * there pins the carrier thread when requests run on virtual threads.
+     * @param username The token subject. / O subject do token.
+     * @param tokenExpiration The token expiration, may be null. / A expiração do token, pode ser nula.
+     * @param loader Loader invoked on a miss (e.g. UserDetailsService). / Loader chamado em caso de miss.
+     * @return The resolved UserDetails. / O UserDetails resolvido.
+     */
+    public UserDetails get(String username, Date tokenExpiration, Function<String, UserDetails> loader) {
+        long expiresAt = tokenExpiration != null ? tokenExpiration.getTime() : Long.MAX_VALUE;
+        Key key = new Key(username, expiresAt);
+        UserDetails cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        UserDetails loaded = loader.apply(username);
+        if (!(loaded instanceof StaleUser)) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Remove todas as entradas de um usuário (todas as expirações de token).
+     * Removes every entry of a user (all token expirations).
+     */
+    public void invalidate(String username) {
+        cache.asMap().keySet().removeIf(key -> key.username().equals(username));
+        log.info("Principal cache entries invalidated for username: {}", username);
+    }
+
+    /**
+     * Remove todas as entradas do cache.
+     * Removes all cache entries.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.info("Principal cache fully invalidated.");
+    }
+
+    /**
+     * Publica tamanho, hits, misses e evictions do cache (cache="principal").
+     * Publishes cache size, hits, misses and evictions (cache="principal").
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "principal");
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private long expiryFor(Key key) {
+        if (key.tokenExpiresAtMillis() == Long.MAX_VALUE) {
+            return ttlNanos;
+        }
+        long untilTokenExpiryMillis = Math.max(0, key.tokenExpiresAtMillis() - System.currentTimeMillis());
+        return Math.min(ttlNanos, Duration.ofMillis(untilTokenExpiryMillis).toNanos());
+    }
+}
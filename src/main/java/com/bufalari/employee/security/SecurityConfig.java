@@ -1,5 +1,8 @@
 package com.bufalari.employee.security;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -18,6 +21,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     private final JwtAuthenticationFilter jwtAuthFilter;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter) {
@@ -35,10 +40,27 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/health/**", "/actuator/info", "/actuator/prometheus").permitAll() // Probes e scrape / Probes and scraping
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Define se as authorities vêm das claims do token (stateless) ou do auth-service.
+     * Declarado como static para evitar dependência circular com o JwtAuthenticationFilter.
+     * Defines whether authorities come from the token claims (stateless) or from the auth-service.
+     * Declared static to avoid a circular dependency with JwtAuthenticationFilter.
+     */
+    @Bean
+    public static JwtClaimsAuthoritiesMapper jwtClaimsAuthoritiesMapper(
+            @Value("${security.jwt.authorities-from-token.enabled:false}") boolean enabled,
+            @Value("${security.jwt.authorities-from-token.roles-claim:roles}") String rolesClaim) {
+        log.info("JWT authorities mode: {} (roles claim: '{}').",
+                enabled ? "stateless, from token claims" : "auth-service lookup", rolesClaim);
+        return new JwtClaimsAuthoritiesMapper(enabled, rolesClaim);
+    }
+}
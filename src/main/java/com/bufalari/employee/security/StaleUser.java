@@ -0,0 +1,21 @@
+package com.bufalari.employee.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Principal montado a partir do último resultado bom do auth-service, servido enquanto ele está indisponível.
+ * O {@link PrincipalCache} não o guarda: cada requisição volta ao AuthServiceGateway, que só o devolve dentro de
+ * {@code auth.service.stale-principals.ttl}.
+ * Principal built from the auth-service's last good result, served while it is unavailable. {@link PrincipalCache}
+ * does not store it: every request goes back to AuthServiceGateway, which only returns it within
+ * {@code auth.service.stale-principals.ttl}.
+ */
+final class StaleUser extends User {
+
+    StaleUser(String username, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+    }
+}
@@ -0,0 +1,57 @@
+package com.bufalari.employee.service;
+
+import com.bufalari.employee.dto.CostCenterSpendDTO;
+import com.bufalari.employee.dto.CostCenterSpendReportDTO;
+import com.bufalari.employee.enums.SpendGranularity;
+import com.bufalari.employee.repository.CostCenterSpendView;
+import com.bufalari.employee.repository.WorkHoursRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Serviço de relatórios de gastos por centro de custo, agregados no banco via projeções.
+ * Service for cost-center spend reports, aggregated in the database through projections.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CostCenterSpendService {
+
+    private static final Logger log = LoggerFactory.getLogger(CostCenterSpendService.class);
+
+    private final WorkHoursRepository workHoursRepository;
+
+    /**
+     * Gera o relatório de gastos de um centro de custo, ou de todos quando costCenterId for nulo.
+     * Builds the spend report of one cost center, or of all of them when costCenterId is null.
+     * @param costCenterId The cost center ID, or null for all cost centers. / O ID do centro de custo, ou nulo para todos.
+     * @param from Start date (inclusive). / Data inicial (inclusiva).
+     * @param to End date (inclusive). / Data final (inclusiva).
+     * @param groupBy Grouping granularity. / Granularidade do agrupamento.
+     * @return The report. / O relatório.
+     * @throws IllegalArgumentException if the date range is invalid.
+     */
+    public CostCenterSpendReportDTO getSpendReport(Long costCenterId, LocalDate from, LocalDate to, SpendGranularity groupBy) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("A valid date range is required ('from' must not be after 'to').");
+        }
+        log.debug("Building spend report (costCenterId={}, from={}, to={}, groupBy={})", costCenterId, from, to, groupBy);
+        List<CostCenterSpendView> views = costCenterId != null
+                ? workHoursRepository.sumSpendByCostCenter(costCenterId, groupBy.getTruncUnit(), from, to)
+                : workHoursRepository.sumSpendAllCostCenters(groupBy.getTruncUnit(), from, to);
+
+        List<CostCenterSpendDTO> rows = views.stream()
+                .map(v -> new CostCenterSpendDTO(v.getCostCenterId(), v.getPeriod(), v.getTotalHours(), v.getTotalCost(), v.getEntryCount()))
+                .toList();
+        BigDecimal totalHours = rows.stream().map(CostCenterSpendDTO::getTotalHours).reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalCost = rows.stream().map(CostCenterSpendDTO::getTotalCost).reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new CostCenterSpendReportDTO(from, to, groupBy, totalHours, totalCost, rows);
+    }
+}
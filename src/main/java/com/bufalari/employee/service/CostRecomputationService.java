@@ -0,0 +1,338 @@
+package com.bufalari.employee.service;
+
+import com.bufalari.employee.dto.CostRecomputationJobDTO;
+import com.bufalari.employee.entity.CostRecomputationJobEntity;
+import com.bufalari.employee.enums.CostRecomputationStatus;
+import com.bufalari.employee.exception.ResourceNotFoundException;
+import com.bufalari.employee.repository.CostRecomputationJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recalcula work_hours.calculated_cost a partir do histórico de valor-hora, em chunks.
+ * Recomputes work_hours.calculated_cost from the hourly rate history, in chunks.
+ *
+ * Cada chunk é um único UPDATE set-based em sua própria transação (REQUIRES_NEW), que também aplica a
+ * diferença de custo ao project_cost_rollup e grava o cursor (work_date, id) do job. Uma falha perde no
+ * máximo o chunk corrente, e o job retoma do cursor. Datas anteriores a todo o histórico usam a vigência mais
+ * antiga; só funcionários sem histórico mantêm o custo atual.
+ * Each chunk is a single set-based UPDATE in its own transaction (REQUIRES_NEW), which also applies the
+ * cost difference to project_cost_rollup and stores the job's (work_date, id) cursor. A failure loses at
+ * most the current chunk, and the job resumes from the cursor. Dates before the whole history use the oldest
+ * rate; only employees without history keep their cost.
+ */
+@Service
+@Transactional
+public class CostRecomputationService {
+
+    private static final Logger log = LoggerFactory.getLogger(CostRecomputationService.class);
+
+    // Menor UUID possível: cursor inicial, antes de qualquer id real / Smallest UUID: initial cursor, before any real id
+    private static final UUID CURSOR_START = new UUID(0L, 0L);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM work_hours " +
+            "WHERE employee_id = ? AND work_date >= ? AND work_date < COALESCE(CAST(? AS date), 'infinity')";
+
+    /**
+     * Um chunk: seleciona até N linhas após o cursor com o novo custo (vigência mais recente <= work_date, ou a
+     * mais antiga antes de todo o histórico), atualiza apenas as que mudaram, ajusta o rollup pela diferença e
+     * devolve contagens e o novo cursor.
+     * One chunk: selects up to N rows after the cursor with the new cost (latest rate <= work_date, or the oldest
+     * one before the whole history), updates only the ones that changed, adjusts the rollup by the difference and
+     * returns counts and the new cursor.
+     */
+    private static final String CHUNK_SQL =
+            "WITH chunk AS (" +
+            "  SELECT wh.id, wh.project_id, wh.employee_id, wh.work_date, wh.calculated_cost AS old_cost, " +
+            "         ROUND(wh.hours_worked * r.hourly_rate, 2) AS new_cost " +
+            "  FROM work_hours wh " +
+            "  LEFT JOIN LATERAL (" +
+            "    SELECT rh.hourly_rate FROM employee_rate_history rh " +
+            "    WHERE rh.employee_id = wh.employee_id " +
+            "    ORDER BY CASE WHEN rh.effective_from <= wh.work_date THEN rh.effective_from END DESC NULLS LAST, " +
+            "             rh.effective_from LIMIT 1" +
+            "  ) r ON true " +
+            "  WHERE wh.employee_id = ? AND wh.work_date < COALESCE(CAST(? AS date), 'infinity') " +
+            "    AND (wh.work_date, wh.id) > (?, ?) " +
+            "  ORDER BY wh.work_date, wh.id " +
+            "  LIMIT ?" +
+            "), updated AS (" +
+            "  UPDATE work_hours wh SET calculated_cost = c.new_cost, last_modified_at = ?, last_modified_by = ? " +
+            "  FROM chunk c " +
+            "  WHERE wh.id = c.id AND c.new_cost IS NOT NULL AND wh.calculated_cost IS DISTINCT FROM c.new_cost " +
+            "  RETURNING c.project_id, c.employee_id, c.work_date, c.new_cost - COALESCE(c.old_cost, 0) AS delta" +
+            "), rollup AS (" +
+            "  UPDATE project_cost_rollup p SET total_cost = p.total_cost + d.delta " +
+            "  FROM (SELECT project_id, employee_id, CAST(date_trunc('month', work_date) AS date) AS work_month, SUM(delta) AS delta " +
+            "        FROM updated WHERE project_id IS NOT NULL GROUP BY 1, 2, 3) d " +
+            "  WHERE p.project_id = d.project_id AND p.employee_id = d.employee_id AND p.work_month = d.work_month " +
+            "  RETURNING 1" +
+            ") " +
+            "SELECT (SELECT COUNT(*) FROM chunk) AS scanned, (SELECT COUNT(*) FROM updated) AS updated, " +
+            "       last.work_date AS last_work_date, last.id AS last_id " +
+            "FROM (SELECT 1) one " +
+            "LEFT JOIN LATERAL (SELECT work_date, id FROM chunk ORDER BY work_date DESC, id DESC LIMIT 1) last ON true";
+
+    private record ChunkResult(int scanned, int updated, LocalDate lastWorkDate, UUID lastId) {}
+
+    private final CostRecomputationJobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final TaskExecutor taskExecutor;
+    private final int chunkSize;
+    private final Duration chunkPause;
+    private final Duration staleAfter;
+    private final Counter rowsScannedCounter;
+    private final Counter rowsUpdatedCounter;
+    private final Timer chunkTimer;
+
+    // Jobs em execução nesta instância / Jobs running on this instance
+    private final Set<UUID> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public CostRecomputationService(CostRecomputationJobRepository jobRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${employee.recost.chunk-size:1000}") int chunkSize,
+                                    @Value("${employee.recost.chunk-pause:PT0S}") Duration chunkPause,
+                                    @Value("${employee.recost.stale-after:PT5M}") Duration staleAfter) {
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.taskExecutor = taskExecutor;
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+        this.staleAfter = staleAfter;
+        this.rowsScannedCounter = Counter.builder("cost.recomputation.rows").tag("result", "scanned")
+                .description("Work hours rows processed by cost recomputation jobs").register(meterRegistry);
+        this.rowsUpdatedCounter = Counter.builder("cost.recomputation.rows").tag("result", "updated")
+                .description("Work hours rows processed by cost recomputation jobs").register(meterRegistry);
+        this.chunkTimer = Timer.builder("cost.recomputation.chunk")
+                .description("Duration of one cost recomputation chunk transaction").register(meterRegistry);
+    }
+
+    /**
+     * Cria um job de recálculo para o funcionário no intervalo [from, to) e o inicia após o commit da
+     * transação corrente (para que o job enxergue a vigência recém-gravada).
+     * Creates a recomputation job for the employee over [from, to) and starts it after the current
+     * transaction commits (so the job sees the rate just written).
+     * @param employeeId UUID do funcionário.
+     * @param from First work date (inclusive). / Primeira data (inclusiva).
+     * @param to Work date where the job stops (exclusive), or null. / Data de parada (exclusiva), ou null.
+     * @return The created job. / O job criado.
+     */
+    public CostRecomputationJobDTO startRecomputation(UUID employeeId, LocalDate from, LocalDate to) {
+        if (to != null && !to.isAfter(from)) {
+            throw new IllegalArgumentException("Recomputation end date must be after its start date.");
+        }
+        Long totalRows = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, employeeId, from, to);
+        CostRecomputationJobEntity job = CostRecomputationJobEntity.builder()
+                .employeeId(employeeId)
+                .fromDate(from)
+                .toDate(to)
+                .status(CostRecomputationStatus.PENDING)
+                .chunkSize(chunkSize)
+                .totalRows(totalRows != null ? totalRows : 0)
+                .cursorWorkDate(from)
+                .cursorId(CURSOR_START)
+                .build();
+        CostRecomputationJobEntity saved = jobRepository.save(job);
+        log.info("Cost recomputation job {} created for employee {} ({} to {}, ~{} rows).",
+                saved.getId(), employeeId, from, to != null ? to : "open end", saved.getTotalRows());
+        submitAfterCommit(saved.getId());
+        return toDTO(saved);
+    }
+
+    /**
+     * Retoma um job que falhou ou cuja execução foi interrompida (RUNNING sem progresso há stale-after).
+     * Resumes a job that failed or whose run was interrupted (RUNNING with no progress for stale-after).
+     * @param jobId UUID do job.
+     * @return The job as it was before resuming. / O job antes da retomada.
+     * @throws ResourceNotFoundException se o job não existir.
+     * @throws IllegalArgumentException se o job já terminou ou está em execução.
+     */
+    public CostRecomputationJobDTO resume(UUID jobId) {
+        CostRecomputationJobEntity job = findJob(jobId);
+        if (job.getStatus() == CostRecomputationStatus.COMPLETED) {
+            throw new IllegalArgumentException("Cost recomputation job " + jobId + " is already completed.");
+        }
+        if (activeJobs.contains(jobId) || !isClaimable(job)) {
+            throw new IllegalArgumentException("Cost recomputation job " + jobId + " is still running.");
+        }
+        log.info("Resuming cost recomputation job {} from cursor ({}, {}).", jobId, job.getCursorWorkDate(), job.getCursorId());
+        submitAfterCommit(jobId);
+        return toDTO(job);
+    }
+
+    @Transactional(readOnly = true)
+    public CostRecomputationJobDTO getJob(UUID jobId) {
+        return toDTO(findJob(jobId));
+    }
+
+    private CostRecomputationJobEntity findJob(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Cost recomputation job not found with ID: " + jobId));
+    }
+
+    private void submitAfterCommit(UUID jobId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            taskExecutor.execute(() -> run(jobId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                taskExecutor.execute(() -> run(jobId));
+            }
+        });
+    }
+
+    /**
+     * Executa o job até o fim, um chunk por transação. Roda no executor de tarefas da aplicação.
+     * Runs the job to completion, one chunk per transaction. Runs on the application task executor.
+     */
+    private void run(UUID jobId) {
+        if (!activeJobs.add(jobId)) {
+            log.info("Cost recomputation job {} is already running on this instance.", jobId);
+            return;
+        }
+        try {
+            Boolean claimed = requiresNew.execute(status -> claim(jobId));
+            if (!Boolean.TRUE.equals(claimed)) {
+                return;
+            }
+            boolean done = false;
+            while (!done) {
+                done = Boolean.TRUE.equals(requiresNew.execute(status -> processChunk(jobId)));
+                if (!done && !chunkPause.isZero()) {
+                    Thread.sleep(chunkPause.toMillis()); // Alivia a carga no banco / Eases database load
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markFailed(jobId, e);
+        } catch (RuntimeException e) {
+            log.error("Cost recomputation job {} failed: {}", jobId, e.getMessage(), e);
+            markFailed(jobId, e);
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    private boolean claim(UUID jobId) {
+        CostRecomputationJobEntity job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || !isClaimable(job)) {
+            log.info("Cost recomputation job {} is not claimable (status: {}).", jobId, job != null ? job.getStatus() : "missing");
+            return false;
+        }
+        job.setStatus(CostRecomputationStatus.RUNNING);
+        job.setLastError(null);
+        job.setFinishedAt(null);
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(LocalDateTime.now());
+        }
+        jobRepository.saveAndFlush(job); // @Version: outra instância que tente o mesmo claim falha / another instance claiming it fails
+        return true;
+    }
+
+    private boolean isClaimable(CostRecomputationJobEntity job) {
+        return switch (job.getStatus()) {
+            case PENDING, FAILED -> true;
+            case RUNNING -> job.getLastModifiedAt() == null
+                    || job.getLastModifiedAt().isBefore(LocalDateTime.now().minus(staleAfter));
+            case COMPLETED -> false;
+        };
+    }
+
+    /**
+     * Processa um chunk e avança o cursor na mesma transação.
+     * Processes one chunk and advances the cursor within the same transaction.
+     * @return true when the range is exhausted. / true quando o intervalo terminou.
+     */
+    private boolean processChunk(UUID jobId) {
+        CostRecomputationJobEntity job = findJob(jobId);
+        long start = System.nanoTime();
+        ChunkResult result = jdbcTemplate.queryForObject(CHUNK_SQL,
+                (rs, rowNum) -> new ChunkResult(
+                        rs.getInt("scanned"),
+                        rs.getInt("updated"),
+                        rs.getObject("last_work_date", LocalDate.class),
+                        rs.getObject("last_id", UUID.class)),
+                job.getEmployeeId(), job.getToDate(), job.getCursorWorkDate(), job.getCursorId(), job.getChunkSize(),
+                LocalDateTime.now(), job.getCreatedBy());
+        long elapsedNanos = System.nanoTime() - start;
+        chunkTimer.record(Duration.ofNanos(elapsedNanos));
+        rowsScannedCounter.increment(result.scanned());
+        rowsUpdatedCounter.increment(result.updated());
+
+        if (result.lastId() != null) {
+            job.setCursorWorkDate(result.lastWorkDate());
+            job.setCursorId(result.lastId());
+        }
+        job.setRowsScanned(job.getRowsScanned() + result.scanned());
+        job.setRowsUpdated(job.getRowsUpdated() + result.updated());
+        job.setChunksCompleted(job.getChunksCompleted() + 1);
+        job.setProcessingMillis(job.getProcessingMillis() + Duration.ofNanos(elapsedNanos).toMillis());
+        boolean done = result.scanned() < job.getChunkSize();
+        if (done) {
+            job.setStatus(CostRecomputationStatus.COMPLETED);
+            job.setFinishedAt(LocalDateTime.now());
+            log.info("Cost recomputation job {} completed: {} rows scanned, {} updated in {} chunk(s).",
+                    jobId, job.getRowsScanned(), job.getRowsUpdated(), job.getChunksCompleted());
+        } else {
+            log.debug("Cost recomputation job {} chunk {}: {} scanned, {} updated.",
+                    jobId, job.getChunksCompleted(), result.scanned(), result.updated());
+        }
+        return done;
+    }
+
+    private void markFailed(UUID jobId, Exception cause) {
+        try {
+            requiresNew.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(CostRecomputationStatus.FAILED);
+                job.setFinishedAt(LocalDateTime.now());
+                String message = String.valueOf(cause.getMessage());
+                job.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+            }));
+        } catch (RuntimeException e) {
+            log.error("Could not mark cost recomputation job {} as failed: {}", jobId, e.getMessage());
+        }
+    }
+
+    private CostRecomputationJobDTO toDTO(CostRecomputationJobEntity job) {
+        double percent = job.getTotalRows() > 0
+                ? Math.min(100.0, job.getRowsScanned() * 100.0 / job.getTotalRows())
+                : (job.getStatus() == CostRecomputationStatus.COMPLETED ? 100.0 : 0.0);
+        double rowsPerSecond = job.getProcessingMillis() > 0 ? job.getRowsScanned() * 1000.0 / job.getProcessingMillis() : 0.0;
+        return new CostRecomputationJobDTO(job.getId(), job.getEmployeeId(), job.getFromDate(), job.getToDate(),
+                job.getStatus(), job.getChunkSize(), job.getTotalRows(), job.getRowsScanned(), job.getRowsUpdated(),
+                job.getChunksCompleted(), Math.round(percent * 10) / 10.0, Math.round(rowsPerSecond * 10) / 10.0,
+                job.getStartedAt(), job.getFinishedAt(), job.getLastError(), job.getCreatedBy());
+    }
+}
@@ -0,0 +1,212 @@
+package com.bufalari.employee.service;
+
+import com.bufalari.employee.convert.DepartmentConverter;
+import com.bufalari.employee.dto.DepartmentCostDTO;
+import com.bufalari.employee.dto.DepartmentCostSummaryDTO;
+import com.bufalari.employee.dto.DepartmentDTO;
+import com.bufalari.employee.dto.SubDepartmentDTO;
+import com.bufalari.employee.entity.DepartmentEntity;
+import com.bufalari.employee.exception.ResourceNotFoundException;
+import com.bufalari.employee.repository.DepartmentClosureRepository;
+import com.bufalari.employee.repository.DepartmentCostView;
+import com.bufalari.employee.repository.DepartmentRepository;
+import com.bufalari.employee.repository.EmployeeRepository;
+import com.bufalari.employee.repository.WorkHoursRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço da hierarquia de departamentos. Toda mudança de estrutura (criar, mover, excluir) atualiza a
+ * closure table na mesma transação, sob um advisory lock, para que as consultas de subárvore sejam um
+ * simples {@code ancestor_id = X} em vez de uma recursão.
+ * Service for the department hierarchy. Every structure change (create, move, delete) updates the closure
+ * table in the same transaction, under an advisory lock, so that subtree queries are a plain
+ * {@code ancestor_id = X} instead of a recursive walk.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DepartmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(DepartmentService.class);
+
+    private final DepartmentRepository departmentRepository;
+    private final DepartmentClosureRepository closureRepository;
+    private final EmployeeRepository employeeRepository;
+    private final WorkHoursRepository workHoursRepository;
+    private final DepartmentConverter departmentConverter;
+
+    /**
+     * Cria um departamento; com parentId, ele é um subdepartamento desse pai.
+     * Creates a department; with a parentId, it is a sub-department of that parent.
+     * @param dto The department data. / Os dados do departamento.
+     * @return The created department. / O departamento criado.
+     * @throws IllegalArgumentException if the parent does not exist.
+     */
+    public DepartmentDTO createDepartment(DepartmentDTO dto) {
+        log.info("Attempting to create department '{}' under parent: {}", dto.getName(), dto.getParentId());
+        closureRepository.lockHierarchy();
+        DepartmentEntity parent = dto.getParentId() != null ? requireParent(dto.getParentId()) : null;
+        DepartmentEntity saved = departmentRepository.saveAndFlush(DepartmentEntity.builder()
+                .name(dto.getName().trim())
+                .parent(parent)
+                .build());
+        closureRepository.insertSelf(saved.getId());
+        if (parent != null) {
+            closureRepository.attachSubtree(saved.getId(), parent.getId());
+        }
+        log.info("Department created successfully with ID: {}", saved.getId());
+        return departmentConverter.entityToDTO(saved, List.of());
+    }
+
+    /**
+     * Cria um subdepartamento de {@code dto.departmentId}.
+     * Creates a sub-department of {@code dto.departmentId}.
+     */
+    public SubDepartmentDTO createSubDepartment(SubDepartmentDTO dto) {
+        DepartmentDTO created = createDepartment(new DepartmentDTO(null, dto.getName(), dto.getDepartmentId(), null));
+        DepartmentEntity child = departmentRepository.getReferenceById(created.getId());
+        return departmentConverter.subDepartmentToDTO(child, child.getParent());
+    }
+
+    /**
+     * Busca um departamento com seus subdepartamentos diretos.
+     * Retrieves a department with its direct sub-departments.
+     * @throws ResourceNotFoundException if the department does not exist.
+     */
+    @Transactional(readOnly = true)
+    public DepartmentDTO getDepartment(UUID id) {
+        DepartmentEntity department = requireDepartment(id);
+        return departmentConverter.entityToDTO(department, departmentRepository.findByParent_IdInOrderByNameAsc(List.of(id)));
+    }
+
+    /**
+     * Lista os departamentos raiz com seus subdepartamentos diretos (duas consultas).
+     * Lists the root departments with their direct sub-departments (two queries).
+     */
+    @Transactional(readOnly = true)
+    public List<DepartmentDTO> getRootDepartments() {
+        List<DepartmentEntity> roots = departmentRepository.findByParentIsNullOrderByNameAsc();
+        if (roots.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<DepartmentEntity>> childrenByParent = departmentRepository
+                .findByParent_IdInOrderByNameAsc(roots.stream().map(DepartmentEntity::getId).toList()).stream()
+                .collect(Collectors.groupingBy(child -> child.getParent().getId()));
+        return roots.stream()
+                .map(root -> departmentConverter.entityToDTO(root, childrenByParent.getOrDefault(root.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * Renomeia e/ou move um departamento (com toda a sua subárvore) para outro pai; parentId nulo o torna raiz.
+     * Renames and/or moves a department (with its whole subtree) to another parent; a null parentId makes it a root.
+     * @throws ResourceNotFoundException if the department does not exist.
+     * @throws IllegalArgumentException if the new parent does not exist or is inside the department's own subtree.
+     */
+    public DepartmentDTO updateDepartment(UUID id, DepartmentDTO dto) {
+        log.info("Attempting to update department ID: {}", id);
+        DepartmentEntity department = requireDepartment(id);
+        department.setName(dto.getName().trim());
+        UUID currentParentId = department.getParent() != null ? department.getParent().getId() : null;
+        if (!Objects.equals(currentParentId, dto.getParentId())) {
+            move(department, dto.getParentId());
+        }
+        log.info("Department ID {} updated successfully.", id);
+        return departmentConverter.entityToDTO(department, departmentRepository.findByParent_IdInOrderByNameAsc(List.of(id)));
+    }
+
+    /**
+     * Exclui um departamento sem subdepartamentos, sem funcionários e sem horas lançadas em seu nome.
+     * Deletes a department with no sub-departments, no employees and no work hours recorded against it.
+     * @throws ResourceNotFoundException if the department does not exist.
+     * @throws IllegalStateException if it still has sub-departments, employees or recorded work hours.
+     */
+    public void deleteDepartment(UUID id) {
+        log.info("Attempting to delete department ID: {}", id);
+        closureRepository.lockHierarchy();
+        if (!departmentRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Department not found with ID: " + id);
+        }
+        if (departmentRepository.existsByParent_Id(id)) {
+            throw new IllegalStateException("Department " + id + " still has sub-departments.");
+        }
+        if (employeeRepository.existsByDepartmentId(id)) {
+            throw new IllegalStateException("Department " + id + " still has employees.");
+        }
+        if (workHoursRepository.existsByDepartmentId(id)) {
+            throw new IllegalStateException("Department " + id + " has recorded work hours.");
+        }
+        closureRepository.deleteLeaf(id);
+        departmentRepository.deleteById(id);
+        log.info("Department deleted successfully with ID: {}", id);
+    }
+
+    /**
+     * Custo das horas trabalhadas de todos os funcionários da subárvore do departamento no período, em uma
+     * única consulta agregada; cada lançamento conta no departamento do funcionário na data em que foi gravado.
+     * Work hours cost of every employee in the department's subtree within the range, in a single aggregate
+     * query; each entry counts towards the employee's department at the time it was recorded.
+     * @param id The department at the root of the subtree. / O departamento raiz da subárvore.
+     * @param from Start date (inclusive). / Data inicial (inclusiva).
+     * @param to End date (inclusive). / Data final (inclusiva).
+     * @throws IllegalArgumentException if the date range is invalid.
+     * @throws ResourceNotFoundException if the department does not exist.
+     */
+    @Transactional(readOnly = true)
+    public DepartmentCostSummaryDTO getSubtreeCost(UUID id, LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("A valid date range is required ('from' must not be after 'to').");
+        }
+        List<DepartmentCostView> rows = closureRepository.sumCostBySubtree(id, from, to);
+        if (rows.size() < 2) {
+            throw new ResourceNotFoundException("Department not found with ID: " + id);
+        }
+        // A última linha é o total da subárvore; um funcionário que trocou de departamento no período conta uma vez
+        // The last row is the subtree total; an employee who moved department within the range counts once
+        DepartmentCostView total = rows.get(rows.size() - 1);
+        List<DepartmentCostDTO> departments = rows.subList(0, rows.size() - 1).stream()
+                .map(row -> new DepartmentCostDTO(row.getDepartmentId(), row.getDepartmentName(), row.getDepth(),
+                        row.getTotalHours(), row.getTotalCost(), row.getEntryCount(), row.getEmployeeCount()))
+                .toList();
+        return new DepartmentCostSummaryDTO(id, departments.get(0).getDepartmentName(), from, to,
+                total.getTotalHours(), total.getTotalCost(), total.getEntryCount(), total.getEmployeeCount(),
+                departments);
+    }
+
+    private void move(DepartmentEntity department, UUID newParentId) {
+        UUID id = department.getId();
+        closureRepository.lockHierarchy(); // Antes da verificação de ciclo / Before the cycle check
+        DepartmentEntity newParent = null;
+        if (newParentId != null) {
+            if (closureRepository.existsById_AncestorIdAndId_DescendantId(id, newParentId)) {
+                throw new IllegalArgumentException("A department cannot be moved under itself or one of its sub-departments.");
+            }
+            newParent = requireParent(newParentId);
+        }
+        int detached = closureRepository.detachSubtree(id);
+        int attached = newParent != null ? closureRepository.attachSubtree(id, newParentId) : 0;
+        department.setParent(newParent);
+        log.info("Department {} moved under {} ({} closure rows removed, {} added).", id, newParentId, detached, attached);
+    }
+
+    private DepartmentEntity requireDepartment(UUID id) {
+        return departmentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + id));
+    }
+
+    private DepartmentEntity requireParent(UUID parentId) {
+        return departmentRepository.findById(parentId)
+                .orElseThrow(() -> new IllegalArgumentException("Parent department not found with ID: " + parentId));
+    }
+}
@@ -0,0 +1,133 @@
+package com.bufalari.employee.service;
+
+import com.bufalari.employee.dto.CostRecomputationJobDTO;
+import com.bufalari.employee.dto.EmployeeRateDTO;
+import com.bufalari.employee.entity.EmployeeEntity;
+import com.bufalari.employee.entity.EmployeeRateHistoryEntity;
+import com.bufalari.employee.exception.ResourceNotFoundException;
+import com.bufalari.employee.repository.EmployeeRateHistoryRepository;
+import com.bufalari.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço do histórico de valor-hora dos funcionários.
+ * Service for the employees' hourly rate history.
+ *
+ * Uma nova vigência (inclusive retroativa) dispara um job que recalcula o custo das horas no intervalo
+ * em que ela vale: da sua data até a vigência seguinte (desde a admissão, se for a mais antiga).
+ * A new rate (retroactive included) starts a job that recomputes the cost of the work hours in the range
+ * where it applies: from its date up to the next effective date (from the hire date, if it is the oldest).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EmployeeRateService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeRateService.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeRateHistoryRepository rateHistoryRepository;
+    private final CostRecomputationService costRecomputationService;
+
+    /**
+     * Registra uma vigência de valor-hora e inicia o recálculo das horas afetadas.
+     * Se for a vigência atual, também passa a ser o employees.hourly_rate usado em novos lançamentos.
+     * Records an effective-dated hourly rate and starts the recomputation of the affected work hours.
+     * If it is the current rate, it also becomes the employees.hourly_rate used for new entries.
+     * @param employeeId UUID do funcionário.
+     * @param rateDTO Rate and effective date. / Valor e data de vigência.
+     * @return The saved rate with the recomputation job ID. / A vigência salva com o ID do job de recálculo.
+     * @throws ResourceNotFoundException se o funcionário não for encontrado.
+     * @throws IllegalArgumentException se a data for futura ou já houver vigência na mesma data.
+     */
+    public EmployeeRateDTO addRate(UUID employeeId, EmployeeRateDTO rateDTO) {
+        LocalDate effectiveFrom = rateDTO.getEffectiveFrom();
+        log.info("Adding hourly rate {} effective from {} for employee ID {}", rateDTO.getHourlyRate(), effectiveFrom, employeeId);
+        if (effectiveFrom.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Future-dated rates are not supported; effectiveFrom must not be after today.");
+        }
+        // Bloqueio da linha serializa mudanças de valor-hora do mesmo funcionário
+        // The row lock serializes rate changes of the same employee
+        EmployeeEntity employee = employeeRepository.findByIdForUpdate(employeeId)
+                .orElseThrow(() -> {
+                    log.warn("Failed to add rate: Employee not found with ID {}", employeeId);
+                    return new ResourceNotFoundException("Employee not found with ID: " + employeeId);
+                });
+        if (rateHistoryRepository.existsByEmployeeIdAndEffectiveFrom(employeeId, effectiveFrom)) {
+            throw new IllegalArgumentException("Employee already has a rate effective from " + effectiveFrom + ".");
+        }
+
+        Optional<EmployeeRateHistoryEntity> oldest = rateHistoryRepository.findFirstByEmployeeIdOrderByEffectiveFromAsc(employeeId);
+        if (oldest.isEmpty() && employee.getHourlyRate() != null && employee.getHireDate().isBefore(effectiveFrom)) {
+            // Funcionário sem histórico: o valor atual passa a valer desde a admissão, antes de ser sobrescrito
+            // Employee without history: the current rate is recorded from the hire date before it is overwritten
+            oldest = Optional.of(rateHistoryRepository.save(EmployeeRateHistoryEntity.builder()
+                    .employee(employee)
+                    .hourlyRate(employee.getHourlyRate())
+                    .effectiveFrom(employee.getHireDate())
+                    .reason("Initial rate")
+                    .build()));
+        }
+        // Datas anteriores a todo o histórico usam a vigência mais antiga; se a nova passa a sê-lo, elas mudam também
+        // Dates before the whole history use the oldest rate; if the new one becomes it, they change as well
+        LocalDate recomputeFrom = oldest.map(EmployeeRateHistoryEntity::getEffectiveFrom)
+                .filter(oldestFrom -> oldestFrom.isBefore(effectiveFrom))
+                .isPresent() ? effectiveFrom : min(effectiveFrom, employee.getHireDate());
+
+        LocalDate nextEffectiveFrom = rateHistoryRepository
+                .findFirstByEmployeeIdAndEffectiveFromAfterOrderByEffectiveFromAsc(employeeId, effectiveFrom)
+                .map(EmployeeRateHistoryEntity::getEffectiveFrom)
+                .orElse(null);
+        EmployeeRateHistoryEntity saved = rateHistoryRepository.save(EmployeeRateHistoryEntity.builder()
+                .employee(employee)
+                .hourlyRate(rateDTO.getHourlyRate())
+                .effectiveFrom(effectiveFrom)
+                .reason(rateDTO.getReason())
+                .build());
+        if (nextEffectiveFrom == null) {
+            // Vigência mais recente (e não futura): é o valor atual / Latest (non-future) rate: it is the current one
+            employee.setHourlyRate(rateDTO.getHourlyRate());
+        }
+
+        CostRecomputationJobDTO job = costRecomputationService.startRecomputation(employeeId, recomputeFrom, nextEffectiveFrom);
+        log.info("Rate {} recorded for employee {}; recomputation job {} scheduled.", saved.getId(), employeeId, job.getId());
+        EmployeeRateDTO result = toDTO(saved);
+        result.setRecomputationJobId(job.getId());
+        return result;
+    }
+
+    /**
+     * Lista as vigências de um funcionário, da mais recente para a mais antiga.
+     * Lists the rates of an employee, most recent first.
+     * @throws ResourceNotFoundException se o funcionário não for encontrado.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeRateDTO> getRates(UUID employeeId) {
+        if (!employeeRepository.existsById(employeeId)) {
+            log.warn("Cannot get rates: Employee not found with ID {}", employeeId);
+            throw new ResourceNotFoundException("Employee not found with ID: " + employeeId);
+        }
+        return rateHistoryRepository.findByEmployeeIdOrderByEffectiveFromDesc(employeeId).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+        private EmployeeRateDTO toDTO(EmployeeRateHistoryEntity entity) {
+        return new EmployeeRateDTO(entity.getId(), entity.getEmployee().getId(), entity.getHourlyRate(),
+                entity.getEffectiveFrom(), entity.getReason(), null);
+    }
+}
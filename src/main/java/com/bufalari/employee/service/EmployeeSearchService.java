@@ -0,0 +1,127 @@
+package com.bufalari.employee.service;
+
+import com.bufalari.employee.dto.EmployeeSearchResultDTO;
+import com.bufalari.employee.repository.EmployeeRepository;
+import com.bufalari.employee.repository.EmployeeSearchView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Serviço de busca typeahead de funcionários por nome, cidade e (para perfis autorizados) SIN.
+ * Typeahead employee search service by name, city and (for authorized roles) SIN.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmployeeSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSearchService.class);
+
+    /** Menor termo aceito: com 1 caractere quase todas as linhas casam. / Shortest accepted term: 1 char matches nearly every row. */
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_TERM_LENGTH = 100;
+    /** Abaixo disso trigramas não distinguem nada. / Below this trigrams do not discriminate. */
+    static final int MIN_FUZZY_LENGTH = 3;
+    /** Candidatos de similaridade ranqueados por busca. / Similarity candidates ranked per search. */
+    static final int FUZZY_POOL = 200;
+    private static final String MAX_CODE_POINT = new String(Character.toChars(Character.MAX_CODE_POINT));
+
+    private final EmployeeRepository employeeRepository;
+    private final int maxLimit;
+    /**
+     * pg_trgm instalada; até a verificação (e sem ela) a busca usa só prefixos.
+     * pg_trgm is installed; until the check (and without it) search uses prefixes only.
+     */
+    private volatile boolean fuzzyAvailable;
+
+    public EmployeeSearchService(EmployeeRepository employeeRepository,
+                                 @Value("${employee.search.max-limit:50}") int maxLimit) {
+        this.employeeRepository = employeeRepository;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Verifica a pg_trgm depois dos ApplicationRunners (DatabaseIndexInitializer tenta instalá-la, mas pode estar
+     * desligado ou sem permissão); sem ela, a etapa de similaridade é pulada em vez de falhar com erro de SQL.
+     * Checks for pg_trgm after the ApplicationRunners (DatabaseIndexInitializer tries to install it, but it may be
+     * disabled or lack the privilege); without it, the similarity step is skipped instead of failing with a SQL error.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkFuzzySearch() {
+        fuzzyAvailable = employeeRepository.isTrigramExtensionInstalled();
+        if (!fuzzyAvailable) {
+            log.warn("pg_trgm extension is not installed; employee search will match prefixes only (no typo tolerance).");
+        }
+    }
+
+    /**
+     * Busca funcionários cujo sobrenome, nome, "nome sobrenome" ou cidade comece com o termo; se isso não
+     * preencher o limite, completa com nomes parecidos (erros de digitação; exige pg_trgm). Se {@code includeSin}, um SIN
+     * idêntico ao termo também casa (o SIN nunca é devolvido).
+     * Searches employees whose last name, first name, "first last" or city starts with the term; if that does
+     * not fill the limit, tops up with similar names (typos; requires pg_trgm). If {@code includeSin}, a SIN equal to the term
+     * also matches (the SIN is never returned).
+     * @param query Raw search text. / Texto de busca bruto.
+     * @param limit Maximum results (1..max-limit). / Máximo de resultados (1..max-limit).
+     * @param includeSin Whether the caller may search by SIN. / Se o chamador pode buscar por SIN.
+     * @return Results ordered by score, last name, first name. / Resultados ordenados por pontuação, sobrenome, nome.
+     */
+    public List<EmployeeSearchResultDTO> search(String query, int limit, boolean includeSin) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit + ".");
+        }
+        String term = normalize(query);
+        if (term.length() < MIN_TERM_LENGTH || term.length() > MAX_TERM_LENGTH) {
+            throw new IllegalArgumentException("Search term must have between " + MIN_TERM_LENGTH + " and "
+                    + MAX_TERM_LENGTH + " characters.");
+        }
+        int space = term.indexOf(' ');
+        String firstWord = space > 0 ? term.substring(0, space) : term;
+        String rest = space > 0 ? term.substring(space + 1) : "";
+        log.debug("Searching employees by '{}' (limit {}, SIN: {})", term, limit, includeSin);
+
+        List<EmployeeSearchView> rows = new ArrayList<>(employeeRepository.searchByPrefix(
+                term, upperBound(term), firstWord, upperBound(firstWord), rest, upperBound(rest),
+                includeSin ? query.strip() : null, limit));
+        if (fuzzyAvailable && rows.size() < limit && term.length() >= MIN_FUZZY_LENGTH) {
+            Set<UUID> seen = new HashSet<>();
+            rows.forEach(v -> seen.add(v.getId()));
+            for (EmployeeSearchView v : employeeRepository.searchSimilar(term, FUZZY_POOL, limit)) {
+                if (rows.size() == limit) {
+                    break;
+                }
+                if (seen.add(v.getId())) {
+                    rows.add(v);
+                }
+            }
+        }
+        return rows.stream()
+                .map(v -> new EmployeeSearchResultDTO(v.getId(), v.getFirstName(), v.getLastName(), v.getCity(),
+                        v.getEmploymentType(), v.getScore() != null ? v.getScore() : 0d))
+                .toList();
+    }
+
+    /** Minúsculas, sem espaços nas pontas e com espaços internos colapsados. / Lower case, trimmed, inner spaces collapsed. */
+    static String normalize(String query) {
+        return query == null ? "" : query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Fim exclusivo do intervalo de prefixo em ordem "C" (bytes UTF-8): nenhum code point é maior que U+10FFFF.
+     * Exclusive end of the prefix range in "C" (UTF-8 byte) order: no code point sorts above U+10FFFF.
+     */
+    static String upperBound(String prefix) {
+        return prefix + MAX_CODE_POINT;
+    }
+}
@@ -1,28 +1,69 @@
 package com.bufalari.employee.service;
 
 import com.bufalari.employee.convert.AllocationHistoryConverter;
+import com.bufalari.employee.convert.CursorConverter;
 import com.bufalari.employee.convert.EmployeeConverter;
 import com.bufalari.employee.convert.WorkHoursConverter;
 import com.bufalari.employee.dto.AllocationHistoryDTO;
+import com.bufalari.employee.dto.CursorPageDTO;
+import com.bufalari.employee.dto.EmployeeBatchGetRequestDTO;
+import com.bufalari.employee.dto.EmployeeBatchGetResultDTO;
 import com.bufalari.employee.dto.EmployeeDTO;
+import com.bufalari.employee.dto.WorkHoursBatchItemResultDTO;
+import com.bufalari.employee.dto.WorkHoursBatchResultDTO;
 import com.bufalari.employee.dto.WorkHoursDTO;
+import com.bufalari.employee.dto.WorkHoursEntryDTO;
 import com.bufalari.employee.entity.AllocationHistoryEntity;
 import com.bufalari.employee.entity.EmployeeEntity;
+import com.bufalari.employee.entity.EmployeeRateHistoryEntity;
 import com.bufalari.employee.entity.WorkHoursEntity;
 import com.bufalari.employee.exception.ResourceNotFoundException; // Importar exceção
 import com.bufalari.employee.repository.AllocationHistoryRepository;
+import com.bufalari.employee.repository.DepartmentRepository;
+import com.bufalari.employee.repository.EmployeeRateHistoryRepository;
 import com.bufalari.employee.repository.EmployeeRepository;
+import com.bufalari.employee.repository.WorkHoursRangeVersion;
 import com.bufalari.employee.repository.WorkHoursRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor; // Usar Lombok para injeção
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.slf4j.Logger; // Importar Logger
 import org.slf4j.LoggerFactory; // Importar LoggerFactory
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // Importar Transactional
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID; // <<<--- IMPORT UUID
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Serviço para gerenciamento de funcionários (usando UUID), incluindo horas e alocação.
@@ -41,6 +82,28 @@ public class EmployeeService {
     private final WorkHoursConverter workHoursConverter;
     private final AllocationHistoryRepository allocationHistoryRepository;
     private final AllocationHistoryConverter allocationHistoryConverter;
+    private final CursorConverter cursorConverter;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ProjectCostService projectCostService;
+    private final EmployeeRateHistoryRepository rateHistoryRepository;
+    private final DepartmentRepository departmentRepository;
+
+    @Value("${employee.pagination.max-page-size:200}")
+    private int maxPageSize;
+
+    @Value("${employee.work-hours.bulk.max-items:5000}")
+    private int bulkMaxItems;
+
+    @Value("${employee.batch-get.max-ids:1000}")
+    private int batchGetMaxIds;
+
+    @Value("${employee.batch-get.chunk-size:500}")
+    private int batchGetChunkSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
 
     /**
      * Cria um novo funcionário.
@@ -59,8 +122,19 @@ public class EmployeeService {
         //     throw new IllegalArgumentException("User ID already linked to another employee.");
         // }
 
+        requireDepartment(employeeDTO.getDepartmentId());
         EmployeeEntity employeeEntity = employeeConverter.dtoToEntity(employeeDTO);
         EmployeeEntity savedEmployee = employeeRepository.save(employeeEntity);
+        if (savedEmployee.getHourlyRate() != null) {
+            // Valor inicial vira a primeira vigência, para que mudanças futuras não recalculem lançamentos antigos
+            // The initial rate becomes the first history entry, so later changes do not re-cost earlier entries
+            rateHistoryRepository.save(EmployeeRateHistoryEntity.builder()
+                    .employee(savedEmployee)
+                    .hourlyRate(savedEmployee.getHourlyRate())
+                    .effectiveFrom(savedEmployee.getHireDate())
+                    .reason("Initial rate")
+                    .build());
+        }
         log.info("Employee created successfully with ID: {}", savedEmployee.getId());
         return employeeConverter.entityToDTO(savedEmployee);
     }
@@ -78,18 +152,147 @@ public class EmployeeService {
     }
 
     /**
-     * Lista todos os funcionários.
-     * Lists all employees.
-     * @return Lista de EmployeeDTOs.
+     * Busca vários funcionários de uma vez, por ID e/ou userId, com uma consulta IN por bloco de chunk-size
+     * identificadores (normalmente uma só), em vez de uma requisição por funcionário.
+     * Fetches many employees at once, by ID and/or userId, with one IN query per chunk of chunk-size
+     * identifiers (usually just one), instead of one request per employee.
+     * @param request IDs and/or userIds; duplicates are ignored. / IDs e/ou userIds; duplicados são ignorados.
+     * @return Employees keyed by ID plus the identifiers not found. / Funcionários por ID e os identificadores não encontrados.
      */
     @Transactional(readOnly = true)
-    public List<EmployeeDTO> getAllEmployees() {
-        log.debug("Fetching all employees.");
-        List<EmployeeEntity> employees = employeeRepository.findAll();
-        log.info("Found {} employees.", employees.size());
-        return employees.stream()
+    public EmployeeBatchGetResultDTO getEmployeesBatch(EmployeeBatchGetRequestDTO request) {
+        Set<UUID> ids = distinctIds(request.getIds(), "ids");
+        Set<UUID> userIds = distinctIds(request.getUserIds(), "userIds");
+        if (ids.isEmpty() && userIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one id or userId is required.");
+        }
+        if (ids.size() + userIds.size() > batchGetMaxIds) {
+            throw new IllegalArgumentException("A batch request accepts at most " + batchGetMaxIds + " identifiers.");
+        }
+        log.debug("Fetching {} employees by ID and {} by userId in batch.", ids.size(), userIds.size());
+
+        Map<UUID, EmployeeEntity> byId = new LinkedHashMap<>();
+        for (List<UUID> chunk : chunks(ids)) {
+            employeeRepository.findAllById(chunk).forEach(e -> byId.put(e.getId(), e));
+        }
+        Map<UUID, UUID> employeeIdsByUserId = new LinkedHashMap<>();
+        for (List<UUID> chunk : chunks(userIds)) {
+            for (EmployeeEntity e : employeeRepository.findByUserIdIn(chunk)) {
+                byId.putIfAbsent(e.getId(), e);
+                employeeIdsByUserId.put(e.getUserId(), e.getId());
+            }
+        }
+
+        Map<UUID, EmployeeDTO> employees = new LinkedHashMap<>();
+        byId.forEach((id, entity) -> employees.put(id, employeeConverter.entityToDTO(entity)));
+        List<UUID> missingIds = ids.stream().filter(id -> !byId.containsKey(id)).toList();
+        List<UUID> missingUserIds = userIds.stream().filter(id -> !employeeIdsByUserId.containsKey(id)).toList();
+        log.info("Batch fetch resolved {} employees ({} ids and {} userIds missing).",
+                employees.size(), missingIds.size(), missingUserIds.size());
+        return new EmployeeBatchGetResultDTO(employees, employeeIdsByUserId, missingIds, missingUserIds);
+    }
+
+    private static Set<UUID> distinctIds(List<UUID> ids, String field) {
+        if (ids == null) {
+            return Set.of();
+        }
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("The " + field + " list must not contain null values.");
+        }
+        return new LinkedHashSet<>(ids);
+    }
+
+    private List<List<UUID>> chunks(Set<UUID> ids) {
+        List<UUID> all = List.copyOf(ids);
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += batchGetChunkSize) {
+            chunks.add(all.subList(from, Math.min(from + batchGetChunkSize, all.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Lista funcionários paginados por cursor (keyset), ordenados por (lastName, firstName, id).
+     * Lists employees paginated by cursor (keyset), ordered by (lastName, firstName, id).
+     * @param cursor Cursor returned by the previous page, or null for the first page. / Cursor da página anterior, ou null.
+     * @param size Requested page size (1..max-page-size). / Tamanho de página solicitado.
+     * @return Page of EmployeeDTOs with the next cursor. / Página de EmployeeDTOs com o próximo cursor.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<EmployeeDTO> getEmployeesPage(String cursor, int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ".");
+        }
+        // Busca uma linha extra para saber se existe próxima página / Fetch one extra row to detect a next page
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<EmployeeEntity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            log.debug("Fetching first employee page (size {}).", size);
+            rows = employeeRepository.findKeysetFirstPage(limit);
+        } else {
+            List<String> key = cursorConverter.decode(cursor, 3);
+            log.debug("Fetching employee page after ({}, {}, {}) (size {}).", key.get(0), key.get(1), key.get(2), size);
+            rows = employeeRepository.findKeysetPageAfter(key.get(0), key.get(1), parseCursorId(key.get(2)), limit);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<EmployeeEntity> pageRows = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            EmployeeEntity last = pageRows.get(pageRows.size() - 1);
+            nextCursor = cursorConverter.encode(List.of(last.getLastName(), last.getFirstName(), last.getId().toString()));
+        }
+        List<EmployeeDTO> items = pageRows.stream()
                 .map(employeeConverter::entityToDTO)
                 .collect(Collectors.toList());
+        return new CursorPageDTO<>(items, items.size(), nextCursor, hasMore);
+    }
+
+    private static UUID parseCursorId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed pagination cursor.", e);
+        }
+    }
+
+    /**
+     * Exporta todos os funcionários como NDJSON (um EmployeeDTO por linha) diretamente no stream de saída.
+     * As linhas são lidas por cursor e desanexadas após a escrita, mantendo a memória constante.
+     * Exports all employees as NDJSON (one EmployeeDTO per line) straight to the output stream.
+     * Rows are read through a cursor and detached once written, keeping memory flat.
+     * @param out Destination stream (e.g. the HTTP response). / Stream de destino (ex: a resposta HTTP).
+     * @return Number of exported employees. / Número de funcionários exportados.
+     */
+    @Transactional(readOnly = true)
+    public long exportEmployees(OutputStream out) throws IOException {
+        log.info("Starting NDJSON export of employees.");
+        ObjectWriter writer = objectMapper.writerFor(EmployeeDTO.class);
+        long count = 0;
+        // O hint de CacheMode da consulta só vale durante a execução, e o stream hidrata as linhas depois;
+        // a sessão inteira fica sem cache L2 para a exportação não expulsar o conjunto quente.
+        // The query CacheMode hint only applies while the query executes, and the stream hydrates rows later;
+        // the whole session skips the L2 cache so the export does not evict the hot working set.
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try (Stream<EmployeeEntity> rows = employeeRepository.streamAllForExport()) {
+            Iterator<EmployeeEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                EmployeeEntity employee = iterator.next();
+                out.write(writer.writeValueAsBytes(employeeConverter.entityToDTO(employee)));
+                out.write('\n');
+                entityManager.detach(employee); // Não acumula entidades no contexto / Keep the persistence context empty
+                if (++count % 500 == 0) {
+                    out.flush();
+                }
+            }
+        } finally {
+            session.setCacheMode(previousCacheMode);
+        }
+        out.flush();
+        log.info("NDJSON export finished: {} employees written.", count);
+        return count;
     }
 
     /**
@@ -102,26 +305,84 @@ public class EmployeeService {
      */
     public EmployeeDTO updateEmployee(UUID id, EmployeeDTO employeeDTO) { // <<<--- UUID
         log.info("Attempting to update employee with ID: {}", id);
-        // Verifica se o funcionário existe
-        if (!employeeRepository.existsById(id)) { // <<<--- existsById com UUID
-            log.warn("Update failed. Employee with ID {} not found.", id);
-            throw new ResourceNotFoundException("Employee not found with ID: " + id);
+        // Carrega a entidade gerenciada (uma única leitura, servida pelo cache L2) e aplica os campos;
+        // o merge de uma entidade nova apagaria horas/alocações via orphanRemoval.
+        // Loads the managed entity (single read, served by the L2 cache) and applies the fields;
+        // merging a fresh entity would wipe work hours/allocations through orphanRemoval.
+        EmployeeEntity employeeEntity = findEmployeeForUpdate(id);
+        requireDepartmentIfChanged(employeeEntity, employeeDTO.getDepartmentId());
+        requireHourlyRateUnchanged(employeeEntity, employeeDTO.getHourlyRate());
+        employeeConverter.applyToEntity(employeeDTO, employeeEntity);
+        log.info("Employee with ID {} updated successfully.", id);
+        return employeeConverter.entityToDTO(employeeEntity);
+    }
+
+    /**
+     * Atualiza parcialmente um funcionário (JSON Merge Patch): apenas os campos presentes no patch mudam.
+     * O resultado é validado como um EmployeeDTO completo e o Hibernate emite UPDATE só das colunas alteradas.
+     * Partially updates an employee (JSON Merge Patch): only the fields present in the patch change.
+     * The result is validated as a full EmployeeDTO and Hibernate issues an UPDATE of just the changed columns.
+     * @param id O UUID do funcionário.
+     * @param patch JSON object with the fields to change. / Objeto JSON com os campos a alterar.
+     * @return DTO do funcionário atualizado.
+     * @throws ResourceNotFoundException se o funcionário não for encontrado.
+     * @throws ConstraintViolationException se o resultado for inválido.
+     */
+    public EmployeeDTO patchEmployee(UUID id, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Patch body must be a JSON object.");
         }
-        EmployeeEntity employeeEntity = employeeConverter.dtoToEntity(employeeDTO);
-        employeeEntity.setId(id); // Garante que o ID correto está sendo usado para update
-
-        // Adicionar validações extras se necessário (ex: verificar se userId está mudando e já existe)
-        // EmployeeEntity existing = employeeRepository.findById(id).get(); // Carregar existente para comparar
-        // if (!Objects.equals(existing.getUserId(), employeeEntity.getUserId()) && employeeEntity.getUserId() != null) {
-        //     if (employeeRepository.existsByUserId(employeeEntity.getUserId())) {
-        //         throw new IllegalArgumentException("User ID " + employeeEntity.getUserId() + " is already linked to another employee.");
-        //     }
-        // }
+        log.info("Attempting to patch employee with ID: {} (fields: {})", id, patch.size());
+        EmployeeEntity employeeEntity = findEmployeeForUpdate(id);
+        EmployeeDTO patched = employeeConverter.entityToDTO(employeeEntity);
+        try {
+            objectMapper.readerForUpdating(patched).readValue(patch);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid patch body: " + e.getMessage(), e);
+        }
+        patched.setId(id); // O ID não é alterável / The ID cannot be changed
+        Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        requireDepartmentIfChanged(employeeEntity, patched.getDepartmentId());
+        requireHourlyRateUnchanged(employeeEntity, patched.getHourlyRate());
+        employeeConverter.applyToEntity(patched, employeeEntity);
+        log.info("Employee with ID {} patched successfully.", id);
+        return employeeConverter.entityToDTO(employeeEntity);
+    }
+
+    /**
+     * O valor-hora só muda por uma vigência (POST /{id}/rates), que grava o histórico e recalcula os custos.
+     * The hourly rate only changes through an effective-dated rate (POST /{id}/rates), which records the
+     * history and recomputes costs.
+     */
+    private void requireHourlyRateUnchanged(EmployeeEntity employeeEntity, BigDecimal hourlyRate) {
+        BigDecimal current = employeeEntity.getHourlyRate();
+        boolean unchanged = hourlyRate == null || (current != null && current.compareTo(hourlyRate) == 0);
+        if (!unchanged) {
+            throw new IllegalArgumentException("hourlyRate cannot be changed by update; add an effective-dated rate through POST /employees/{id}/rates.");
+        }
+    }
 
+    private void requireDepartmentIfChanged(EmployeeEntity employeeEntity, UUID departmentId) {
+        if (!Objects.equals(employeeEntity.getDepartmentId(), departmentId)) {
+            requireDepartment(departmentId);
+        }
+    }
 
-        EmployeeEntity updatedEmployee = employeeRepository.save(employeeEntity);
-        log.info("Employee with ID {} updated successfully.", id);
-        return employeeConverter.entityToDTO(updatedEmployee);
+    private void requireDepartment(UUID departmentId) {
+        if (departmentId != null && !departmentRepository.existsById(departmentId)) {
+            throw new IllegalArgumentException("Department not found with ID: " + departmentId);
+        }
+    }
+
+    private EmployeeEntity findEmployeeForUpdate(UUID id) {
+        return employeeRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("Update failed. Employee with ID {} not found.", id);
+                    return new ResourceNotFoundException("Employee not found with ID: " + id);
+                });
     }
 
     /**
@@ -132,13 +393,22 @@ public class EmployeeService {
      */
     public void deleteEmployee(UUID id) { // <<<--- UUID
         log.info("Attempting to delete employee with ID: {}", id);
-        if (!employeeRepository.existsById(id)) { // <<<--- existsById com UUID
+        if (employeeRepository.lockForDelete(id).isEmpty()) {
              log.warn("Delete failed. Employee with ID {} not found.", id);
             throw new ResourceNotFoundException("Employee not found with ID: " + id);
         }
-        // Adicionar verificações de dependência se necessário (ex: alocações ativas?)
-        employeeRepository.deleteById(id); // <<<--- deleteById com UUID
-        log.info("Employee with ID {} deleted successfully.", id);
+        // Filhos removidos com comandos em massa (número fixo de statements, independente do histórico);
+        // o cascade do remove abaixo encontra as coleções já vazias.
+        // Children removed with bulk statements (fixed statement count, regardless of history size);
+        // the cascade of the remove below finds the collections already empty.
+        int workHours = workHoursRepository.deleteByEmployeeId(id);
+        int allocations = allocationHistoryRepository.deleteByEmployeeId(id);
+        rateHistoryRepository.deleteByEmployeeId(id);
+        projectCostService.removeEmployee(id); // Rollup não tem FK / Rollup has no FK
+        // remove() (em vez de DELETE em massa) despeja só esta entrada do cache L2
+        // remove() (instead of a bulk DELETE) evicts only this entry from the L2 cache
+        entityManager.remove(entityManager.find(EmployeeEntity.class, id));
+        log.info("Employee with ID {} deleted successfully ({} work hours, {} allocations removed).", id, workHours, allocations);
     }
 
     // --- Horas Trabalhadas ---
@@ -160,14 +430,208 @@ public class EmployeeService {
                 });
 
         WorkHoursEntity workHoursEntity = workHoursConverter.dtoToEntity(workHoursDTO);
+        // Sempre inserção: um id do cliente faria merge sobre uma linha existente e o rollup somaria de novo
+        // Always an insert: a client id would merge over an existing row and the rollup would add it again
+        workHoursEntity.setId(null);
         workHoursEntity.setEmployee(employee); // Define a relação
+        workHoursEntity.setDepartmentId(employee.getDepartmentId()); // Departamento na data do lançamento / Department at entry time
+        // Valor-hora vigente na data trabalhada (lançamentos retroativos) / Rate in effect on the work date (backdated entries)
+        workHoursEntity.setEffectiveHourlyRate(rateHistoryRepository
+                .findFirstByEmployeeIdAndEffectiveFromLessThanEqualOrderByEffectiveFromDesc(employeeId, workHoursEntity.getWorkDate())
+                .or(() -> rateHistoryRepository.findFirstByEmployeeIdOrderByEffectiveFromAsc(employeeId))
+                .map(EmployeeRateHistoryEntity::getHourlyRate)
+                .orElse(null));
 
         // Validação de alocação (projeto/centro custo) e cálculo de custo ocorrem no @PrePersist/Update da entidade
         WorkHoursEntity savedWorkHours = workHoursRepository.save(workHoursEntity);
+        projectCostService.recordWorkHours(List.of(savedWorkHours));
         log.info("Work hours record created with ID {} for employee {}", savedWorkHours.getId(), employeeId);
         return workHoursConverter.entityToDTO(savedWorkHours);
     }
 
+    /**
+     * Registra horas trabalhadas em lote, com resultado por item.
+     * Todos os funcionários referenciados são buscados em uma única consulta; os itens válidos são
+     * inseridos via batching JDBC do Hibernate (flush/clear a cada batch_size registros).
+     * Registers work hours in bulk, reporting a result per item.
+     * All referenced employees are fetched with a single query; valid items are inserted through
+     * Hibernate JDBC batching (flush/clear every batch_size records).
+     * @param items Work hours records, each carrying its employeeId. / Registros de horas, cada um com seu employeeId.
+     * @return Per-item results. / Resultado por item.
+     */
+    public WorkHoursBatchResultDTO registerWorkHoursBulk(List<WorkHoursDTO> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one work hours record is required.");
+        }
+        if (items.size() > bulkMaxItems) {
+            throw new IllegalArgumentException("A bulk request accepts at most " + bulkMaxItems + " records.");
+        }
+        log.info("Registering {} work hours records in bulk.", items.size());
+
+        Set<UUID> employeeIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(WorkHoursDTO::getEmployeeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, EmployeeEntity> employees = employeeRepository.findAllById(employeeIds).stream()
+                .collect(Collectors.toMap(EmployeeEntity::getId, Function.identity()));
+        Map<UUID, List<EmployeeRateHistoryEntity>> ratesByEmployee = employees.isEmpty() ? Map.of()
+                : rateHistoryRepository.findByEmployeeIdInOrderByEffectiveFromDesc(employees.keySet()).stream()
+                        .collect(Collectors.groupingBy(rate -> rate.getEmployee().getId()));
+
+        WorkHoursBatchItemResultDTO[] results = new WorkHoursBatchItemResultDTO[items.size()];
+        List<WorkHoursEntity> pending = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            WorkHoursDTO dto = items.get(i);
+            String error = validateBulkItem(dto, employees);
+            if (error != null) {
+                results[i] = WorkHoursBatchItemResultDTO.rejected(i, error);
+                continue;
+            }
+            WorkHoursEntity entity = workHoursConverter.dtoToEntity(dto);
+            entity.setId(null); // Sempre inserção / Always an insert
+            entity.setEmployee(employees.get(dto.getEmployeeId()));
+            entity.setDepartmentId(entity.getEmployee().getDepartmentId());
+            entity.setEffectiveHourlyRate(rateOn(ratesByEmployee.get(dto.getEmployeeId()), entity.getWorkDate()));
+            try {
+                entity.validateAndCalculateCost(); // Mesmas regras do @PrePersist / Same rules as @PrePersist
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                results[i] = WorkHoursBatchItemResultDTO.rejected(i, e.getMessage());
+                continue;
+            }
+            pending.add(entity);
+            pendingIndexes.add(i);
+        }
+
+        for (int start = 0; start < pending.size(); start += jdbcBatchSize) {
+            List<WorkHoursEntity> chunk = pending.subList(start, Math.min(start + jdbcBatchSize, pending.size()));
+            chunk.forEach(entityManager::persist);
+            entityManager.flush();
+            for (int j = 0; j < chunk.size(); j++) {
+                int index = pendingIndexes.get(start + j);
+                results[index] = WorkHoursBatchItemResultDTO.created(index, workHoursConverter.entityToDTO(chunk.get(j)));
+            }
+            entityManager.clear(); // Mantém o contexto pequeno entre batches / Keep the context small between batches
+        }
+        projectCostService.recordWorkHours(pending);
+
+        int created = pending.size();
+        log.info("Bulk work hours finished: {} created, {} rejected.", created, items.size() - created);
+        return new WorkHoursBatchResultDTO(items.size(), created, items.size() - created, Arrays.asList(results));
+    }
+
+    /**
+     * Valor da vigência mais recente com effectiveFrom <= data; antes de todo o histórico, o da mais antiga.
+     * Nulo só sem histórico (usa employees.hourly_rate).
+     * Rate of the latest entry with effectiveFrom <= date; before the whole history, the oldest one's.
+     * Null only without history (falls back to employees.hourly_rate).
+     */
+    private static BigDecimal rateOn(List<EmployeeRateHistoryEntity> ratesNewestFirst, LocalDate date) {
+        if (ratesNewestFirst == null || ratesNewestFirst.isEmpty() || date == null) {
+            return null;
+        }
+        for (EmployeeRateHistoryEntity rate : ratesNewestFirst) {
+            if (!rate.getEffectiveFrom().isAfter(date)) {
+                return rate.getHourlyRate();
+            }
+        }
+        return ratesNewestFirst.get(ratesNewestFirst.size() - 1).getHourlyRate();
+    }
+
+    private String validateBulkItem(WorkHoursDTO dto, Map<UUID, EmployeeEntity> employees) {
+        if (dto == null) {
+            return "Work hours record must not be null.";
+        }
+        Set<ConstraintViolation<WorkHoursDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!employees.containsKey(dto.getEmployeeId())) {
+            return "Employee not found with ID: " + dto.getEmployeeId();
+        }
+        return null;
+    }
+
+    /**
+     * Retorna uma página (keyset) das horas de um funcionário em um intervalo de datas, como projeção enxuta.
+     * Returns a keyset page of an employee's work hours within a date range, as a slim projection.
+     * @param employeeId UUID do funcionário.
+     * @param from Start date (inclusive). / Data inicial (inclusiva).
+     * @param to End date (inclusive). / Data final (inclusiva).
+     * @param cursor Cursor returned by the previous page, or null for the first page. / Cursor da página anterior, ou null.
+     * @param size Requested page size (1..max-page-size). / Tamanho de página solicitado.
+     * @return Page of work hours entries with the next cursor. / Página de registros com o próximo cursor.
+     * @throws ResourceNotFoundException se o funcionário não for encontrado.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<WorkHoursEntryDTO> getWorkHoursPage(UUID employeeId, LocalDate from, LocalDate to, String cursor, int size) {
+        validateWorkHoursRange(employeeId, from, to, size);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<WorkHoursEntryDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = workHoursRepository.findEntriesFirstPage(employeeId, from, to, limit);
+        } else {
+            List<String> key = cursorConverter.decode(cursor, 2);
+            rows = workHoursRepository.findEntriesPageAfter(employeeId, from, to, parseCursorDate(key.get(0)), parseCursorId(key.get(1)), limit);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<WorkHoursEntryDTO> items = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            WorkHoursEntryDTO last = items.get(items.size() - 1);
+            nextCursor = cursorConverter.encode(List.of(last.getWorkDate().toString(), last.getId().toString()));
+        }
+        return new CursorPageDTO<>(items, items.size(), nextCursor, hasMore);
+    }
+
+    /**
+     * Calcula o ETag de uma página de horas a partir da quantidade e da última modificação do intervalo.
+     * É uma consulta agregada barata, que permite responder 304 sem montar a página.
+     * Computes the ETag of a work hours page from the count and last modification of the range.
+     * It is a cheap aggregate query that allows answering 304 without building the page.
+     * @return The ETag value (unquoted). / O valor do ETag (sem aspas).
+     * @throws ResourceNotFoundException se o funcionário não for encontrado.
+     */
+    @Transactional(readOnly = true)
+    public String getWorkHoursETag(UUID employeeId, LocalDate from, LocalDate to, String cursor, int size) {
+        validateWorkHoursRange(employeeId, from, to, size);
+        WorkHoursRangeVersion version = workHoursRepository.findRangeVersion(employeeId, from, to);
+        String source = String.join("|", employeeId.toString(), from.toString(), to.toString(),
+                Objects.toString(cursor, ""), Integer.toString(size),
+                Long.toString(version.getEntryCount()), Objects.toString(version.getLastModifiedAt(), ""));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void validateWorkHoursRange(UUID employeeId, LocalDate from, LocalDate to, int size) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("A valid date range is required ('from' must not be after 'to').");
+        }
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ".");
+        }
+        if (!employeeRepository.existsById(employeeId)) {
+            throw new ResourceNotFoundException("Employee not found with ID: " + employeeId);
+        }
+    }
+
+    private static LocalDate parseCursorDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed pagination cursor.", e);
+        }
+    }
+
     // --- Alocação ---
 
     /**
@@ -177,14 +641,25 @@ public class EmployeeService {
      * @param allocationDTO DTO da alocação.
      * @return DTO da alocação salva com UUID.
      * @throws ResourceNotFoundException se o funcionário não for encontrado.
+     * @throws IllegalArgumentException se o período for inválido ou se sobrepuser a outra alocação no mesmo projeto.
      */
     public AllocationHistoryDTO allocateEmployee(UUID employeeId, AllocationHistoryDTO allocationDTO) { // <<<--- UUID
         log.info("Allocating employee ID {} to project ID {}", employeeId, allocationDTO.getProjectId());
-        EmployeeEntity employee = employeeRepository.findById(employeeId) // <<<--- findById com UUID
+        if (allocationDTO.getEndDate() != null && allocationDTO.getEndDate().isBefore(allocationDTO.getStartDate())) {
+            throw new IllegalArgumentException("Allocation end date must not be before its start date.");
+        }
+        // Bloqueio da linha do funcionário serializa alocações concorrentes do mesmo funcionário
+        // Locking the employee row serializes concurrent allocations of the same employee
+        EmployeeEntity employee = employeeRepository.findByIdForUpdate(employeeId)
                 .orElseThrow(() -> {
                      log.warn("Failed to allocate employee: Employee not found with ID {}", employeeId);
                      return new ResourceNotFoundException("Employee not found with ID: " + employeeId);
                 });
+        if (allocationHistoryRepository.existsOverlapping(employeeId, allocationDTO.getProjectId(),
+                allocationDTO.getStartDate(), allocationDTO.getEndDate())) {
+            log.warn("Allocation rejected: employee {} already allocated to project {} in an overlapping period.", employeeId, allocationDTO.getProjectId());
+            throw new IllegalArgumentException("Employee is already allocated to project " + allocationDTO.getProjectId() + " in an overlapping period.");
+        }
 
         AllocationHistoryEntity allocationEntity = allocationHistoryConverter.dtoToEntity(allocationDTO);
         allocationEntity.setEmployee(employee); // Define a relação
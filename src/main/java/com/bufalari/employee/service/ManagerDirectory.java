@@ -0,0 +1,214 @@
+package com.bufalari.employee.service;
+
+import com.bufalari.employee.convert.ManagerResponsibleConverter;
+import com.bufalari.employee.dto.ManagerResponsibleDTO;
+import com.bufalari.employee.repository.ManagerDirectoryVersion;
+import com.bufalari.employee.repository.ManagerResponsibleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índice em memória dos gerentes/responsáveis por id, código e email, consultado nos fluxos de aprovação.
+ * In-memory index of managers/responsibles by id, code and email, read by the approval flows.
+ *
+ * O índice é um snapshot imutável publicado em um campo volatile (copy-on-write): leituras não fazem I/O nem
+ * pegam lock, e uma reconstrução monta um snapshot novo e troca a referência de uma vez. A reconstrução
+ * acontece na subida, após o commit de uma escrita desta instância e quando a verificação periódica percebe
+ * que a "versão" da tabela (quantidade + soma dos xmin das linhas) mudou por outra instância ou direto no banco.
+ * The index is an immutable snapshot published through a volatile field (copy-on-write): reads do no I/O and
+ * take no lock, and a rebuild assembles a new snapshot and swaps the reference at once. Rebuilds happen at
+ * startup, after a write from this instance commits, and when the periodic check sees that the table
+ * "version" (count + sum of the rows' xmin) was changed by another instance or directly in the database.
+ *
+ * O snapshot guarda records imutáveis; cada consulta devolve DTOs novos, que quem chama pode alterar à vontade.
+ * The snapshot holds immutable records; every lookup returns fresh DTOs, which callers may modify freely.
+ */
+@Component
+public class ManagerDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(ManagerDirectory.class);
+
+    private record Entry(UUID id, String code, String name, String position, String phone, String email) {
+
+        static Entry of(ManagerResponsibleDTO dto) {
+            return new Entry(dto.getId(), dto.getCode(), dto.getName(), dto.getPosition(), dto.getPhone(), dto.getEmail());
+        }
+
+        ManagerResponsibleDTO toDTO() {
+            return new ManagerResponsibleDTO(id, code, name, position, phone, email);
+        }
+    }
+
+    private record Snapshot(Map<UUID, Entry> byId,
+                            Map<String, Entry> byCode,
+                            Map<String, Entry> byEmail,
+                            List<Entry> all,
+                            long entryCount,
+                            long rowVersionSum) {
+
+        boolean matches(ManagerDirectoryVersion version) {
+            return entryCount == version.getEntryCount() && rowVersionSum == version.getRowVersionSum();
+        }
+    }
+
+    private final ManagerResponsibleRepository managerRepository;
+    private final ManagerResponsibleConverter managerConverter;
+    private final TransactionTemplate readOnly;
+    private final ReentrantLock rebuildLock = new ReentrantLock(); // Não synchronized: sem pinning em virtual threads
+    private final Timer rebuildTimer;
+    private volatile Snapshot snapshot;
+
+    public ManagerDirectory(ManagerResponsibleRepository managerRepository,
+                            ManagerResponsibleConverter managerConverter,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.managerRepository = managerRepository;
+        this.managerConverter = managerConverter;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        // Transação própria: o AFTER_COMMIT ainda roda com a transação de escrita ligada à thread
+        // Own transaction: AFTER_COMMIT still runs with the write transaction bound to the thread
+        this.readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTimer = Timer.builder("manager.directory.rebuild")
+                .description("Time to reload the manager directory snapshot")
+                .register(meterRegistry);
+        Gauge.builder("manager.directory.size", this, d -> d.snapshot != null ? d.snapshot.all().size() : 0)
+                .description("Managers in the in-memory directory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Busca por ID. / Finds by ID.
+     */
+    public Optional<ManagerResponsibleDTO> findById(UUID id) {
+        return Optional.ofNullable(current().byId().get(id)).map(Entry::toDTO);
+    }
+
+    /**
+     * Busca pelo código exato. / Finds by exact code.
+     */
+    public Optional<ManagerResponsibleDTO> findByCode(String code) {
+        return Optional.ofNullable(current().byCode().get(code.trim())).map(Entry::toDTO);
+    }
+
+    /**
+     * Busca pelo email, sem diferenciar maiúsculas. / Finds by email, case-insensitively.
+     */
+    public Optional<ManagerResponsibleDTO> findByEmail(String email) {
+        return Optional.ofNullable(current().byEmail().get(email.trim().toLowerCase(Locale.ROOT))).map(Entry::toDTO);
+    }
+
+    /**
+     * Todos os gerentes, ordenados por nome e código. / All managers, ordered by name and code.
+     */
+    public List<ManagerResponsibleDTO> findAll() {
+        return current().all().stream().map(Entry::toDTO).toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild("startup");
+    }
+
+    /**
+     * Reconstrói após o commit de uma escrita desta instância (nunca enxerga dados não commitados).
+     * Rebuilds after a write from this instance commits (never sees uncommitted data).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onManagerChanged(ManagerDirectoryChangedEvent event) {
+        try {
+            rebuild("manager " + event.managerId() + " changed");
+        } catch (RuntimeException e) {
+            // A escrita já foi commitada; a verificação periódica tenta de novo
+            // The write is already committed; the periodic check retries
+            log.warn("Could not rebuild the manager directory after a change: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Verificação barata (COUNT/SUM(xmin)) das mudanças feitas por outras instâncias ou direto no banco.
+     * Cheap (COUNT/SUM(xmin)) check for changes made by other instances or directly in the database.
+     */
+    @Scheduled(fixedDelayString = "${employee.managers.directory.poll-interval:PT30S}",
+               initialDelayString = "${employee.managers.directory.poll-interval:PT30S}")
+    public void pollForChanges() {
+        Snapshot current = snapshot;
+        ManagerDirectoryVersion version = readOnly.execute(status -> managerRepository.findDirectoryVersion());
+        if (current == null || version == null || !current.matches(version)) {
+            rebuild("table version changed");
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : rebuild("first read", true);
+    }
+
+    private Snapshot rebuild(String reason) {
+        return rebuild(reason, false);
+    }
+
+    /**
+     * @param onlyIfMissing Primeira leitura: se outra thread publicou um snapshot enquanto esta esperava o lock,
+     *                      usa esse em vez de recarregar a tabela. / First read: if another thread published a
+     *                      snapshot while this one waited for the lock, use it instead of reloading the table.
+     */
+    private Snapshot rebuild(String reason, boolean onlyIfMissing) {
+        rebuildLock.lock();
+        try {
+            Snapshot existing = snapshot;
+            if (onlyIfMissing && existing != null) {
+                return existing;
+            }
+            Snapshot next = rebuildTimer.record(() -> readOnly.execute(status -> load()));
+            snapshot = next;
+            log.info("Manager directory rebuilt ({}): {} entries.", reason, next.all().size());
+            return next;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        // Versão antes dos dados: se um commit cair no meio, a próxima verificação só reconstrói de novo
+        // Version before data: if a commit lands in between, the next check just rebuilds again
+        ManagerDirectoryVersion version = managerRepository.findDirectoryVersion();
+        List<Entry> all = managerRepository.findAll().stream()
+                .map(managerConverter::entityToDTO)
+                .map(Entry::of)
+                .sorted(Comparator.comparing(Entry::name, String.CASE_INSENSITIVE_ORDER)
+                        .thenComparing(Entry::code))
+                .toList();
+        Map<UUID, Entry> byId = new HashMap<>();
+        Map<String, Entry> byCode = new HashMap<>();
+        Map<String, Entry> byEmail = new HashMap<>();
+        for (Entry manager : all) {
+            byId.put(manager.id(), manager);
+            byCode.put(manager.code(), manager);
+            byEmail.putIfAbsent(manager.email().toLowerCase(Locale.ROOT), manager);
+        }
+        return new Snapshot(Map.copyOf(byId), Map.copyOf(byCode), Map.copyOf(byEmail), all,
+                version.getEntryCount(), version.getRowVersionSum());
+    }
+}
@@ -0,0 +1,13 @@
+package com.bufalari.employee.service;
+
+import java.util.UUID;
+
+/**
+ * Publicado quando um gerente/responsável é criado, alterado ou excluído; o ManagerDirectory reconstrói o
+ * snapshot depois do commit.
+ * Published when a manager/responsible is created, updated or deleted; ManagerDirectory rebuilds its
+ * snapshot after the commit.
+ * @param managerId The affected manager. / O gerente afetado.
+ */
+public record ManagerDirectoryChangedEvent(UUID managerId) {
+}
@@ -0,0 +1,94 @@
+package com.bufalari.employee.service;
+
+import com.bufalari.employee.convert.ManagerResponsibleConverter;
+import com.bufalari.employee.dto.ManagerResponsibleDTO;
+import com.bufalari.employee.entity.ManagerResponsibleEntity;
+import com.bufalari.employee.exception.ResourceNotFoundException;
+import com.bufalari.employee.repository.ManagerResponsibleRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Escritas do cadastro de gerentes/responsáveis. As leituras são servidas pelo {@link ManagerDirectory},
+ * que é reconstruído depois do commit de cada escrita.
+ * Writes of the managers/responsibles registry. Reads are served by {@link ManagerDirectory}, which is
+ * rebuilt after each write commits.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ManagerResponsibleService {
+
+    private static final Logger log = LoggerFactory.getLogger(ManagerResponsibleService.class);
+
+    private final ManagerResponsibleRepository managerRepository;
+    private final ManagerResponsibleConverter managerConverter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Cria um gerente/responsável; código e email devem ser únicos (email sem diferenciar maiúsculas).
+     * Creates a manager/responsible; code and email must be unique (email case-insensitively).
+     * @param dto The manager data. / Os dados do gerente.
+     * @return The created manager. / O gerente criado.
+     */
+    public ManagerResponsibleDTO createManager(ManagerResponsibleDTO dto) {
+        log.info("Attempting to create manager with code: {}", dto.getCode());
+        if (managerRepository.existsByCode(dto.getCode().trim())) {
+            throw new IllegalArgumentException("A manager with code " + dto.getCode() + " already exists.");
+        }
+        if (managerRepository.existsByEmailIgnoreCase(dto.getEmail().trim())) {
+            throw new IllegalArgumentException("A manager with email " + dto.getEmail() + " already exists.");
+        }
+        ManagerResponsibleEntity entity = new ManagerResponsibleEntity();
+        managerConverter.applyToEntity(dto, entity);
+        ManagerResponsibleEntity saved = managerRepository.save(entity);
+        eventPublisher.publishEvent(new ManagerDirectoryChangedEvent(saved.getId()));
+        log.info("Manager created successfully with ID: {}", saved.getId());
+        return managerConverter.entityToDTO(saved);
+    }
+
+    /**
+     * Atualiza um gerente/responsável.
+     * Updates a manager/responsible.
+     * @param id The manager ID. / O ID do gerente.
+     * @param dto The new data. / Os novos dados.
+     * @return The updated manager. / O gerente atualizado.
+     */
+    public ManagerResponsibleDTO updateManager(UUID id, ManagerResponsibleDTO dto) {
+        log.info("Attempting to update manager ID: {}", id);
+        ManagerResponsibleEntity entity = managerRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Manager not found with ID: " + id));
+        if (managerRepository.existsByCodeAndIdNot(dto.getCode().trim(), id)) {
+            throw new IllegalArgumentException("A manager with code " + dto.getCode() + " already exists.");
+        }
+        if (managerRepository.existsByEmailIgnoreCaseAndIdNot(dto.getEmail().trim(), id)) {
+            throw new IllegalArgumentException("A manager with email " + dto.getEmail() + " already exists.");
+        }
+        managerConverter.applyToEntity(dto, entity);
+        ManagerResponsibleEntity saved = managerRepository.save(entity);
+        eventPublisher.publishEvent(new ManagerDirectoryChangedEvent(id));
+        log.info("Manager updated successfully for ID: {}", id);
+        return managerConverter.entityToDTO(saved);
+    }
+
+    /**
+     * Exclui um gerente/responsável.
+     * Deletes a manager/responsible.
+     * @param id The manager ID. / O ID do gerente.
+     */
+    public void deleteManager(UUID id) {
+        log.info("Attempting to delete manager ID: {}", id);
+        if (!managerRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Manager not found with ID: " + id);
+        }
+        managerRepository.deleteById(id);
+        eventPublisher.publishEvent(new ManagerDirectoryChangedEvent(id));
+        log.info("Manager deleted successfully with ID: {}", id);
+    }
+}
@@ -0,0 +1,143 @@
+package com.bufalari.employee.service;
+
+import com.bufalari.employee.dto.EmployeeCostDTO;
+import com.bufalari.employee.dto.MonthlyCostDTO;
+import com.bufalari.employee.dto.ProjectCostSummaryDTO;
+import com.bufalari.employee.entity.WorkHoursEntity;
+import com.bufalari.employee.repository.ProjectCostRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Serviço dos custos por projeto, lidos do rollup pré-agregado (project_cost_rollup).
+ * Service for per-project costs, read from the pre-aggregated rollup (project_cost_rollup).
+ *
+ * O rollup é mantido na mesma transação que grava as horas trabalhadas, por upsert incremental,
+ * de modo que o resumo nunca varre a tabela work_hours.
+ * The rollup is maintained in the same transaction that writes the work hours, through an incremental
+ * upsert, so the summary never scans the work_hours table.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProjectCostService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectCostService.class);
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO project_cost_rollup (project_id, employee_id, work_month, total_hours, total_cost, entry_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (project_id, employee_id, work_month) DO UPDATE SET " +
+            "total_hours = project_cost_rollup.total_hours + EXCLUDED.total_hours, " +
+            "total_cost = project_cost_rollup.total_cost + EXCLUDED.total_cost, " +
+            "entry_count = project_cost_rollup.entry_count + EXCLUDED.entry_count";
+
+    private static final String DELETE_PROJECT_SQL = "DELETE FROM project_cost_rollup WHERE project_id = ?";
+
+    private static final String REBUILD_PROJECT_SQL =
+            "INSERT INTO project_cost_rollup (project_id, employee_id, work_month, total_hours, total_cost, entry_count) " +
+            "SELECT project_id, employee_id, CAST(date_trunc('month', work_date) AS date), " +
+            "SUM(hours_worked), SUM(COALESCE(calculated_cost, 0)), COUNT(*) " +
+            "FROM work_hours WHERE project_id = ? GROUP BY project_id, employee_id, CAST(date_trunc('month', work_date) AS date)";
+
+    /** Chave do rollup; a ordenação fixa evita deadlocks entre upserts concorrentes. / Rollup key; the fixed order avoids deadlocks between concurrent upserts. */
+    private record RollupKey(Long projectId, UUID employeeId, LocalDate workMonth) {
+        static final Comparator<RollupKey> ORDER = Comparator.comparing(RollupKey::projectId)
+                .thenComparing(RollupKey::employeeId)
+                .thenComparing(RollupKey::workMonth);
+    }
+
+    private static final class RollupDelta {
+        private BigDecimal hours = BigDecimal.ZERO;
+        private BigDecimal cost = BigDecimal.ZERO;
+        private long entries;
+    }
+
+    private final ProjectCostRollupRepository rollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Retorna o resumo de custos de um projeto (totais, por funcionário e por mês).
+     * Returns the cost summary of a project (totals, per employee and per month).
+     * @param projectId The project ID. / O ID do projeto.
+     * @return The summary; totals are zero when the project has no recorded hours. / O resumo; totais zerados se não houver horas.
+     */
+    @Transactional(readOnly = true)
+    public ProjectCostSummaryDTO getProjectCostSummary(Long projectId) {
+        log.debug("Fetching cost summary for project ID: {}", projectId);
+        List<EmployeeCostDTO> byEmployee = rollupRepository.sumByEmployee(projectId);
+        List<MonthlyCostDTO> byMonth = rollupRepository.sumByMonth(projectId);
+        BigDecimal totalHours = byMonth.stream().map(MonthlyCostDTO::getTotalHours).reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalCost = byMonth.stream().map(MonthlyCostDTO::getTotalCost).reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new ProjectCostSummaryDTO(projectId, totalHours, totalCost, byEmployee, byMonth);
+    }
+
+    /**
+     * Acumula horas recém-inseridas no rollup. Registros sem projeto (centro de custo) são ignorados.
+     * Deve ser chamado na mesma transação da inserção.
+     * Adds freshly inserted work hours to the rollup. Records without a project (cost center) are ignored.
+     * Must be called within the same transaction as the insert.
+     * @param workHours Inserted work hours records. / Registros de horas inseridos.
+     */
+    public void recordWorkHours(Collection<WorkHoursEntity> workHours) {
+        Map<RollupKey, RollupDelta> deltas = new TreeMap<>(RollupKey.ORDER);
+        for (WorkHoursEntity entry : workHours) {
+            if (entry.getProjectId() == null) {
+                continue;
+            }
+            RollupKey key = new RollupKey(entry.getProjectId(), entry.getEmployee().getId(), entry.getWorkDate().withDayOfMonth(1));
+            RollupDelta delta = deltas.computeIfAbsent(key, k -> new RollupDelta());
+            delta.hours = delta.hours.add(entry.getHoursWorked());
+            if (entry.getCalculatedCost() != null) {
+                delta.cost = delta.cost.add(entry.getCalculatedCost());
+            }
+            delta.entries++;
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> batchArgs.add(new Object[]{
+                key.projectId(), key.employeeId(), Date.valueOf(key.workMonth()), delta.hours, delta.cost, delta.entries}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+        log.debug("Project cost rollup updated: {} key(s) from {} work hours record(s).", deltas.size(), workHours.size());
+    }
+
+    /**
+     * Recalcula o rollup de um projeto a partir da tabela work_hours (backfill ou correção).
+     * Rebuilds the rollup of a project from the work_hours table (backfill or repair).
+     * @param projectId The project ID. / O ID do projeto.
+     * @return Number of rollup rows written. / Número de linhas de rollup gravadas.
+     */
+    public int rebuildProject(Long projectId) {
+        log.info("Rebuilding cost rollup for project ID: {}", projectId);
+        jdbcTemplate.update(DELETE_PROJECT_SQL, projectId);
+        int rows = jdbcTemplate.update(REBUILD_PROJECT_SQL, projectId);
+        log.info("Cost rollup for project ID {} rebuilt with {} row(s).", projectId, rows);
+        return rows;
+    }
+
+    /**
+     * Remove as linhas de rollup de um funcionário excluído.
+     * Removes the rollup rows of a deleted employee.
+     */
+    public void removeEmployee(UUID employeeId) {
+        int rows = rollupRepository.deleteByEmployeeId(employeeId);
+        log.debug("Removed {} cost rollup row(s) for employee ID: {}", rows, employeeId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.bufalari.employee.service;
+
+import com.bufalari.employee.dto.ProjectStaffDTO;
+import com.bufalari.employee.repository.AllocationHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Serviço de consultas de equipe por projeto (alocações vigentes em uma data).
+ * Service for project staffing queries (allocations in effect on a date).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProjectStaffingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectStaffingService.class);
+
+    private final AllocationHistoryRepository allocationHistoryRepository;
+
+    /**
+     * Lista os funcionários alocados ao projeto na data informada.
+     * Lists the employees allocated to the project on the given date.
+     * @param projectId The project ID. / O ID do projeto.
+     * @param date The reference date. / A data de referência.
+     * @return Staff ordered by last name and first name. / Equipe ordenada por sobrenome e nome.
+     */
+    public List<ProjectStaffDTO> getStaffOnDate(Long projectId, LocalDate date) {
+        log.debug("Fetching staff of project ID {} on {}", projectId, date);
+        return allocationHistoryRepository.findStaffOnDate(projectId, date).stream()
+                .map(v -> new ProjectStaffDTO(v.getAllocationId(), v.getEmployeeId(), v.getFirstName(), v.getLastName(),
+                        v.getStartDate(), v.getEndDate()))
+                .toList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.bufalari.employee.sqlstats;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o DataSource (Hikari) com o datasource-proxy para contar statements, linhas e tempo JDBC.
+ * Wraps the (Hikari) DataSource with datasource-proxy to count statements, rows and JDBC time.
+ *
+ * Substitui show-sql/DEBUG de org.hibernate.SQL como fonte de visibilidade do volume de queries, e
+ * cobre também o SQL executado via JdbcTemplate.
+ * Replaces show-sql/org.hibernate.SQL DEBUG as the source of query-volume visibility, and also covers
+ * SQL executed through JdbcTemplate.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.sql.stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementDataSourcePostProcessor.class);
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        SqlStatementListener listener = new SqlStatementListener();
+        log.info("Wrapping DataSource '{}' for per-request SQL statistics.", beanName);
+        return ProxyDataSourceBuilder.create(beanName, dataSource)
+                .listener(listener)
+                .proxyResultSet() // Necessário para contar linhas lidas / Needed to count rows read
+                .methodListener(listener)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.bufalari.employee.sqlstats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abre a contagem de SQL de cada requisição e, ao final, publica cabeçalhos X-SQL-*, métricas por
+ * endpoint e um aviso estruturado quando o orçamento de statements é excedido (típico de N+1).
+ * Opens the SQL counting of each request and, at the end, publishes X-SQL-* headers, per-endpoint
+ * metrics and a structured warning when the statement budget is exceeded (typical of N+1).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10) // Antes da segurança, para cobrir toda a requisição / Before security, to cover the whole request
+@ConditionalOnProperty(name = "employee.sql.stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final boolean responseHeaders;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry,
+                              @Value("${employee.sql.statement-budget:25}") int statementBudget,
+                              @Value("${employee.sql.stats.response-headers:true}") boolean responseHeaders) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.responseHeaders = responseHeaders;
+        log.info("Per-request SQL statistics enabled (statementBudget={}, responseHeaders={}).", statementBudget, responseHeaders);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        // Os cabeçalhos precisam ser gravados antes do commit da resposta / Headers must be written before the response commits
+        HttpServletResponse target = responseHeaders ? new OnCommittedResponseWrapper(response) {
+            @Override
+            protected void onResponseCommitted() {
+                writeHeaders(response, stats);
+            }
+        } : response;
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            SqlStatementStats.end();
+            if (responseHeaders && !response.isCommitted()) {
+                writeHeaders(response, stats); // Respostas sem corpo / Responses without a body
+            }
+            record(request, response, stats);
+        }
+    }
+
+    private void writeHeaders(HttpServletResponse response, SqlStatementStats stats) {
+        response.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+        response.setHeader(ROWS_HEADER, String.valueOf(stats.getRows()));
+        response.setHeader(TIME_HEADER, String.valueOf(stats.getJdbcMillis()));
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, SqlStatementStats stats) {
+        // Padrão da rota (ex: /employees/{employeeId}) mantém a cardinalidade baixa / Route pattern keeps cardinality low
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        // Fora do prefixo http.server.requests: o percentiles-histogram dele (application.yaml) valeria também aqui
+        // Outside the http.server.requests prefix: its percentiles-histogram (application.yaml) would apply here too
+
+        DistributionSummary.builder("sql.request.statements")
+                .description("JDBC statements executed per HTTP request")
+                .tags("uri", uri, "method", method)
+                .serviceLevelObjectives(1, 5, 10, 25, 50, 100)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("sql.request.rows")
+                .description("Rows read or affected per HTTP request")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("sql.request.time")
+                .description("Time spent in JDBC executions per HTTP request")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > statementBudget) {
+            Counter.builder("sql.request.budget.exceeded")
+                    .description("HTTP requests that executed more JDBC statements than the configured budget")
+                    .tags("uri", uri, "method", method)
+                    .register(meterRegistry)
+                    .increment();
+            Map.Entry<String, Integer> mostRepeated = stats.mostRepeated();
+            log.warn("SQL statement budget exceeded: method={} uri={} status={} statements={} budget={} rows={} jdbcTimeMs={} mostRepeatedCount={} mostRepeatedSql=\"{}\"",
+                    method, uri, response.getStatus(), stats.getStatements(), statementBudget, stats.getRows(), stats.getJdbcMillis(),
+                    mostRepeated != null ? mostRepeated.getValue() : 0,
+                    mostRepeated != null ? abbreviate(mostRepeated.getKey()) : "");
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_LOGGED_SQL_LENGTH ? singleLine : singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,71 @@
+package com.bufalari.employee.sqlstats;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Listener do datasource-proxy que alimenta o {@link SqlStatementStats} da requisição corrente.
+ * datasource-proxy listener that feeds the {@link SqlStatementStats} of the current request.
+ *
+ * Cada execução JDBC (um batch conta como uma) soma um statement e o seu tempo; as linhas são as
+ * afetadas por INSERT/UPDATE/DELETE mais as lidas via ResultSet.next().
+ * Each JDBC execution (a batch counts as one) adds one statement and its time; rows are those affected
+ * by INSERT/UPDATE/DELETE plus those read through ResultSet.next().
+ */
+class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START_NANOS = "sqlstats.startNanos";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (SqlStatementStats.current() != null) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats == null) {
+            return;
+        }
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = start != null ? System.nanoTime() - start : execInfo.getElapsedTime() * 1_000_000;
+        String sql = queryInfoList.isEmpty() ? null : queryInfoList.get(0).getQuery();
+        stats.recordExecution(sql, elapsedNanos);
+
+        Object result = execInfo.getResult();
+        if (result instanceof Integer count && count > 0) {
+            stats.recordRows(count);
+        } else if (result instanceof Long count && count > 0) {
+            stats.recordRows(count);
+        } else if (result instanceof int[] counts) {
+            for (int count : counts) {
+                stats.recordRows(Math.max(count, 0)); // SUCCESS_NO_INFO (-2) não soma / does not add
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+        // Nada a fazer / Nothing to do
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && "next".equals(executionContext.getMethod().getName())) {
+            SqlStatementStats stats = SqlStatementStats.current();
+            if (stats != null) {
+                stats.recordRows(1);
+            }
+        }
+    }
+}
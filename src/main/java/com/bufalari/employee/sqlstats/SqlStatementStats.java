@@ -0,0 +1,89 @@
+package com.bufalari.employee.sqlstats;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contadores de SQL (statements, linhas, tempo JDBC) de uma única requisição HTTP, mantidos em ThreadLocal.
+ * SQL counters (statements, rows, JDBC time) of a single HTTP request, kept in a ThreadLocal.
+ *
+ * Somente a thread da requisição escreve nos contadores; fora de uma requisição não há instância ativa
+ * e o listener JDBC não registra nada.
+ * Only the request thread writes the counters; outside a request there is no active instance and the
+ * JDBC listener records nothing.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    // Limite de SQLs distintos rastreados por requisição / Cap on distinct SQL strings tracked per request
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private long statements;
+    private long rows;
+    private long jdbcNanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    private SqlStatementStats() {
+    }
+
+    /**
+     * Inicia a contagem para a thread atual.
+     * Starts counting for the current thread.
+     */
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Contagem ativa na thread atual, ou null fora de uma requisição.
+     * Active counting on the current thread, or null outside a request.
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordExecution(String sql, long elapsedNanos) {
+        statements++;
+        jdbcNanos += elapsedNanos;
+        if (sql != null && (executionsBySql.size() < MAX_DISTINCT_STATEMENTS || executionsBySql.containsKey(sql))) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordRows(long count) {
+        rows += count;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    /**
+     * SQL executado mais vezes na requisição (candidato a N+1), ou null se não houve statements.
+     * Most executed SQL in the request (N+1 candidate), or null if there were no statements.
+     */
+    public Map.Entry<String, Integer> mostRepeated() {
+        return executionsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}